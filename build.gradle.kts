@@ -2,6 +2,7 @@ plugins {
     id("java")
     id("jacoco")
     id("application")
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.aau"
@@ -40,6 +41,23 @@ tasks.jacocoTestReport {
     }
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+}
+
+tasks.register<JavaExec>("crawlBenchmark") {
+    group = "benchmark"
+    description = "Crawls a local synthetic site and reports throughput, fetch latency and peak heap per thread count."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.aau.crawler.benchmark.CrawlThroughputBenchmark")
+    providers.gradleProperty("crawlBenchmarkArgs").orNull?.let { args(it.split(" ")) }
+}
+
 dependencies {
     implementation("org.seleniumhq.selenium:selenium-java:4.31.0")
     implementation("org.seleniumhq.selenium:selenium-devtools-v135:4.31.0")
@@ -0,0 +1,57 @@
+package org.aau.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(DomainFilterBenchmark.URL_COUNT)
+public class DomainFilterBenchmark {
+
+    static final int URL_COUNT = 1024;
+
+    @Param({"1", "100", "10000"})
+    private int allowedDomainCount;
+
+    private DomainFilter domainFilter;
+    private String[] urls;
+
+    @Setup
+    public void setup() {
+        Set<String> allowedDomains = new HashSet<>();
+        for (int i = 0; i < allowedDomainCount; i++) {
+            allowedDomains.add("site%d.example.com".formatted(i));
+        }
+        domainFilter = new DomainFilter(allowedDomains);
+        urls = new String[URL_COUNT];
+        for (int i = 0; i < URL_COUNT; i++) {
+            int site = i % allowedDomainCount;
+            urls[i] = switch (i % 4) {
+                case 0 -> "https://site%d.example.com/page/%d".formatted(site, i);
+                case 1 -> "https://www.sub.site%d.example.com:8443/page?id=%d".formatted(site, i);
+                case 2 -> "https://user@other%d.example.org/page/%d".formatted(site, i);
+                default -> "http://cdn.unrelated-host-%d.net/assets/%d.js".formatted(site, i);
+            };
+        }
+    }
+
+    @Benchmark
+    public void isAllowedDomain(Blackhole blackhole) {
+        for (String url : urls) {
+            blackhole.consume(domainFilter.isAllowedDomain(url));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.aau.crawler.benchmark;
+
+import java.time.Duration;
+
+public record CrawlMeasurement(int threadCount, long crawledPages, int errors, long requests, Duration elapsed, Duration p50Latency, Duration p99Latency, long peakHeapBytes) {
+
+    public double pagesPerSecond() {
+        double seconds = elapsed.toNanos() / 1_000_000_000d;
+        return seconds == 0 ? 0 : crawledPages / seconds;
+    }
+}
@@ -0,0 +1,133 @@
+package org.aau.crawler.benchmark;
+
+import org.aau.config.CommandLineOptions;
+import org.aau.config.DomainFilter;
+import org.aau.config.ExecutorOptions;
+import org.aau.config.FetchMode;
+import org.aau.config.FetchOptions;
+import org.aau.config.ParserType;
+import org.aau.config.PipelineOptions;
+import org.aau.config.WebCrawlerConfiguration;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CrawlThroughputBenchmark {
+
+    private static final long HEAP_SAMPLE_INTERVAL_MILLIS = 10;
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final SyntheticSite site;
+    private final CommandLineOptions options;
+
+    public CrawlThroughputBenchmark(SyntheticSite site, CommandLineOptions options) {
+        this.site = site;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = CommandLineOptions.parse(args);
+        SyntheticSiteOptions siteOptions = new SyntheticSiteOptions(
+                options.getIntOption("pages", 10_000),
+                options.getIntOption("fan-out", 8),
+                options.getIntOption("page-size", 16 * 1024),
+                Duration.ofMillis(options.getIntOption("latency-ms", 20)));
+        List<Integer> threadCounts = parseThreadCounts(options.getOption("threads").orElse("1,4,16,64"));
+        int warmupRuns = options.getIntOption("warmup", 1);
+
+        try (SyntheticSite site = SyntheticSite.start(siteOptions)) {
+            CrawlThroughputBenchmark benchmark = new CrawlThroughputBenchmark(site, options);
+            System.out.printf("Synthetic site %s at %s%n", siteOptions, site.rootUrl());
+            for (int i = 0; i < warmupRuns; i++) {
+                System.out.printf("Warmup run %d/%d%n", i + 1, warmupRuns);
+                benchmark.measure(threadCounts.getLast());
+            }
+            System.out.printf("%8s %8s %7s %9s %9s %10s %9s %9s %14s%n", "threads", "pages", "errors", "requests", "seconds", "pages/sec", "p50 ms", "p99 ms", "peak heap MB");
+            for (int threadCount : threadCounts) {
+                CrawlMeasurement measurement = benchmark.measure(threadCount);
+                System.out.printf(Locale.ROOT, "%8d %8d %7d %9d %9.2f %10.1f %9.2f %9.2f %14.1f%n",
+                        measurement.threadCount(),
+                        measurement.crawledPages(),
+                        measurement.errors(),
+                        measurement.requests(),
+                        measurement.elapsed().toNanos() / 1_000_000_000d,
+                        measurement.pagesPerSecond(),
+                        measurement.p50Latency().toNanos() / 1_000_000d,
+                        measurement.p99Latency().toNanos() / 1_000_000d,
+                        measurement.peakHeapBytes() / BYTES_PER_MEGABYTE);
+            }
+        }
+    }
+
+    private static List<Integer> parseThreadCounts(String threadCounts) {
+        return Arrays.stream(threadCounts.split(","))
+                .map(String::trim)
+                .filter(threadCount -> !threadCount.isEmpty())
+                .map(Integer::parseInt)
+                .toList();
+    }
+
+    public CrawlMeasurement measure(int threadCount) throws InterruptedException {
+        WebCrawlerConfiguration configuration = configurationFor(threadCount);
+        FetchLatencyRecorder latencyRecorder = new FetchLatencyRecorder();
+        MeasuredWebCrawler crawler = new MeasuredWebCrawler(configuration, latencyRecorder);
+        System.gc();
+        long requestsBefore = site.requestCount();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        AtomicLong peakHeapBytes = new AtomicLong(memory.getHeapMemoryUsage().getUsed());
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor();
+        heapSampler.scheduleAtFixedRate(() -> peakHeapBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max), 0, HEAP_SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+
+        PrintStream originalOut = System.out;
+        long start = System.nanoTime();
+        try {
+            if (!options.hasOption("verbose")) {
+                System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            }
+            crawler.start();
+        } finally {
+            System.setOut(originalOut);
+            heapSampler.shutdownNow();
+            heapSampler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new CrawlMeasurement(
+                threadCount,
+                crawler.getCrawledLinkCount(),
+                crawler.getErrors().size(),
+                site.requestCount() - requestsBefore,
+                elapsed,
+                latencyRecorder.percentile(50),
+                latencyRecorder.percentile(99),
+                peakHeapBytes.get());
+    }
+
+    private WebCrawlerConfiguration configurationFor(int threadCount) {
+        WebCrawlerConfiguration configuration = new WebCrawlerConfiguration(site.rootUrl(), options.getIntOption("depth", 64), threadCount, new DomainFilter(Set.of()), System.getProperty("java.io.tmpdir"))
+                .withFetchOptions(FetchOptions.of(FetchMode.HTTP))
+                .withParserType(ParserType.valueOf(options.getOption("parser").orElse("dom").toUpperCase(Locale.ROOT)));
+        int parseThreads = options.getIntOption("parse-threads", 0);
+        if (parseThreads > 0) {
+            configuration = configuration.withPipelineOptions(PipelineOptions.parseThreads(parseThreads));
+        }
+        int maxConcurrentTasks = options.getIntOption("max-concurrency", threadCount);
+        String executor = options.getOption("executor").orElse("platform");
+        return configuration.withExecutorOptions(switch (executor.toLowerCase(Locale.ROOT)) {
+            case "platform" -> ExecutorOptions.platformThreads(threadCount);
+            case "virtual" -> ExecutorOptions.virtualThreads(maxConcurrentTasks);
+            case "async" -> ExecutorOptions.asyncFetches(maxConcurrentTasks);
+            default -> throw new IllegalArgumentException("Unknown executor: %s".formatted(executor));
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package org.aau.crawler.benchmark;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public class FetchLatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+
+    public synchronized void record(long latencyNanos) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = latencyNanos;
+    }
+
+    public synchronized Duration percentile(double percentile) {
+        if (size == 0) {
+            return Duration.ZERO;
+        }
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return Duration.ofNanos(sorted[Math.max(0, rank - 1)]);
+    }
+}
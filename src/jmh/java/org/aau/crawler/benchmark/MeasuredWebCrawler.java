@@ -0,0 +1,112 @@
+package org.aau.crawler.benchmark;
+
+import org.aau.config.WebCrawlerConfiguration;
+import org.aau.crawler.WebCrawlerImpl;
+import org.aau.crawler.client.WebCrawlerClient;
+import org.aau.crawler.concurrent.AsyncWebCrawlerRunnable;
+import org.aau.crawler.concurrent.VirtualThreadWebCrawlerRunnable;
+import org.aau.crawler.concurrent.WebCrawlerRunnable;
+import org.aau.crawler.concurrent.WebCrawlerSharedState;
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
+import org.aau.http.HttpClient;
+import org.aau.web.WebDriver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+public class MeasuredWebCrawler extends WebCrawlerImpl {
+
+    private final WebCrawlerConfiguration configuration;
+    private final FetchLatencyRecorder latencyRecorder;
+
+    public MeasuredWebCrawler(WebCrawlerConfiguration configuration, FetchLatencyRecorder latencyRecorder) {
+        super(configuration);
+        this.configuration = configuration;
+        this.latencyRecorder = latencyRecorder;
+    }
+
+    @Override
+    protected WebCrawlerRunnable createWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebDriver webDriver, HttpClient httpClient) {
+        return new WebCrawlerRunnable(sharedState, configuration, webDriver, httpClient) {
+            @Override
+            protected WebCrawlerClient createWebCrawlerClient() {
+                return new TimedWebCrawlerClient(super.createWebCrawlerClient(), latencyRecorder);
+            }
+        };
+    }
+
+    @Override
+    protected WebCrawlerRunnable createVirtualThreadWebCrawlerRunnable(WebCrawlerSharedState sharedState, ExecutorService taskExecutor, WebDriver webDriver, HttpClient httpClient) {
+        return new VirtualThreadWebCrawlerRunnable(sharedState, configuration, taskExecutor, webDriver, httpClient) {
+            @Override
+            protected WebCrawlerClient createWebCrawlerClient() {
+                return new TimedWebCrawlerClient(super.createWebCrawlerClient(), latencyRecorder);
+            }
+        };
+    }
+
+    @Override
+    protected WebCrawlerRunnable createAsyncWebCrawlerRunnable(WebCrawlerSharedState sharedState, ExecutorService analysisExecutor, WebDriver webDriver, HttpClient httpClient) {
+        return new AsyncWebCrawlerRunnable(sharedState, configuration, analysisExecutor, webDriver, httpClient) {
+            @Override
+            protected WebCrawlerClient createWebCrawlerClient() {
+                return new TimedWebCrawlerClient(super.createWebCrawlerClient(), latencyRecorder);
+            }
+        };
+    }
+
+    private record TimedWebCrawlerClient(WebCrawlerClient delegate, FetchLatencyRecorder latencyRecorder) implements WebCrawlerClient {
+
+        @Override
+        public boolean isPageAvailable(String url) {
+            return delegate.isPageAvailable(url);
+        }
+
+        @Override
+        public FetchResult checkLink(String url) {
+            long start = System.nanoTime();
+            try {
+                return delegate.checkLink(url);
+            } finally {
+                latencyRecorder.record(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public FetchResult fetch(String url) {
+            return fetch(url, CacheValidators.NONE);
+        }
+
+        @Override
+        public FetchResult fetch(String url, CacheValidators validators) {
+            long start = System.nanoTime();
+            try {
+                return delegate.fetch(url, validators);
+            } finally {
+                latencyRecorder.record(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public CompletableFuture<FetchResult> fetchAsync(String url) {
+            return fetchAsync(url, CacheValidators.NONE);
+        }
+
+        @Override
+        public CompletableFuture<FetchResult> fetchAsync(String url, CacheValidators validators) {
+            long start = System.nanoTime();
+            return delegate.fetchAsync(url, validators).whenComplete((result, failure) -> latencyRecorder.record(System.nanoTime() - start));
+        }
+
+        @Override
+        public String getPageContent(String url) {
+            return delegate.getPageContent(url);
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.aau.crawler.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SyntheticSite implements AutoCloseable {
+
+    private static final String PAGE_PATH = "/page/";
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final String FILLER = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore. ";
+
+    private final SyntheticSiteOptions options;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private SyntheticSite(SyntheticSiteOptions options) throws IOException {
+        this.options = options;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server.createContext("/", this::handle);
+        server.setExecutor(requestExecutor);
+    }
+
+    public static SyntheticSite start(SyntheticSiteOptions options) throws IOException {
+        System.setProperty(NO_DELAY_PROPERTY, Boolean.TRUE.toString());
+        SyntheticSite site = new SyntheticSite(options);
+        site.server.start();
+        return site;
+    }
+
+    public String rootUrl() {
+        return pageUrl(0);
+    }
+
+    public String pageUrl(int page) {
+        return "http://%s:%d%s%d".formatted(server.getAddress().getHostString(), server.getAddress().getPort(), PAGE_PATH, page);
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            simulateLatency();
+            int page = pageNumber(exchange.getRequestURI().getPath());
+            if (page < 0) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = renderPage(page).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            if ("HEAD".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        }
+    }
+
+    private void simulateLatency() {
+        if (options.latency().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(options.latency());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int pageNumber(String path) {
+        if (path == null || !path.startsWith(PAGE_PATH)) {
+            return -1;
+        }
+        try {
+            int page = Integer.parseInt(path.substring(PAGE_PATH.length()));
+            return page >= 0 && page < options.pageCount() ? page : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    String renderPage(int page) {
+        SplittableRandom random = new SplittableRandom(page);
+        StringBuilder html = new StringBuilder(options.pageSize() + 1024)
+                .append("<!DOCTYPE html><html><head><title>Page ").append(page).append("</title></head><body>")
+                .append("<h1>Page ").append(page).append("</h1><nav>");
+        if (page > 0) {
+            html.append("<a href=\"").append(PAGE_PATH).append((page - 1) / options.fanOut()).append("\">Parent</a>");
+        }
+        for (int i = 1; i <= options.fanOut(); i++) {
+            long child = (long) page * options.fanOut() + i;
+            if (child < options.pageCount()) {
+                html.append("<a href=\"").append(PAGE_PATH).append(child).append("\">Child ").append(child).append("</a>");
+            }
+        }
+        for (int i = 0; i < Math.max(1, options.fanOut() / 4); i++) {
+            int related = random.nextInt(options.pageCount());
+            html.append("<a href=\"").append(pageUrl(related)).append("#related\">Related ").append(related).append("</a>");
+        }
+        html.append("</nav><h2>Content</h2>");
+        while (html.length() < options.pageSize()) {
+            html.append("<p>").append(FILLER).append("</p>");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        requestExecutor.shutdownNow();
+    }
+}
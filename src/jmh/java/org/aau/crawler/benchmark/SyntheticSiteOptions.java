@@ -0,0 +1,26 @@
+package org.aau.crawler.benchmark;
+
+import java.time.Duration;
+
+public record SyntheticSiteOptions(int pageCount, int fanOut, int pageSize, Duration latency) {
+
+    public SyntheticSiteOptions {
+        if (pageCount < 1) {
+            throw new IllegalArgumentException("Page count cannot be less than 1");
+        }
+        if (fanOut < 1) {
+            throw new IllegalArgumentException("Fan-out cannot be less than 1");
+        }
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("Page size must not be negative");
+        }
+        if (latency == null || latency.isNegative()) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "(pages = %d, fanOut = %d, pageSize = %d bytes, latency = %d ms)".formatted(pageCount, fanOut, pageSize, latency.toMillis());
+    }
+}
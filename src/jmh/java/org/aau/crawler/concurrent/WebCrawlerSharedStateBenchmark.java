@@ -0,0 +1,111 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.Link;
+import org.aau.crawler.result.WorkingLink;
+import org.aau.crawler.visited.CompactVisitedUrlIndex;
+import org.aau.crawler.visited.VisitedUrlIndex;
+import org.aau.crawler.visited.VisitedUrlIndexImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebCrawlerSharedStateBenchmark {
+
+    private static final int PRELOADED_URLS = 100_000;
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    @Param({"EXACT", "COMPACT"})
+    private String visitedIndex;
+
+    private WebCrawlerSharedState sharedState;
+    private String[] knownUrls;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        VisitedUrlIndex visitedUrls = "COMPACT".equals(visitedIndex) ? new CompactVisitedUrlIndex(PRELOADED_URLS * 4) : new VisitedUrlIndexImpl();
+        sharedState = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new ArrayList<CrawlingError>())).withVisitedUrls(visitedUrls);
+        knownUrls = new String[PRELOADED_URLS];
+        for (int i = 0; i < PRELOADED_URLS; i++) {
+            knownUrls[i] = "https://preloaded.example.com/page/" + i;
+            sharedState.addCrawledLink(newLink(knownUrls[i]));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadUrls {
+
+        private String prefix;
+        private long next;
+
+        @Setup
+        public void setup() {
+            prefix = "https://thread" + THREAD_IDS.getAndIncrement() + ".example.com/page/";
+        }
+
+        String nextUniqueUrl() {
+            return prefix + next++;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean containsCrawledUrl() {
+        return sharedState.containsCrawledUrl(randomKnownUrl());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void addCrawledLink(ThreadUrls threadUrls) {
+        sharedState.addCrawledLink(newLink(threadUrls.nextUniqueUrl()));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public boolean mixedContains() {
+        return sharedState.containsCrawledUrl(randomKnownUrl());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void mixedAdd(ThreadUrls threadUrls) {
+        sharedState.addCrawledLink(newLink(threadUrls.nextUniqueUrl()));
+    }
+
+    private String randomKnownUrl() {
+        return knownUrls[ThreadLocalRandom.current().nextInt(knownUrls.length)];
+    }
+
+    private static Link newLink(String url) {
+        return new WorkingLink(url, 1, Set.of(), Set.of());
+    }
+}
@@ -0,0 +1,73 @@
+package org.aau.crawler.parser;
+
+import org.aau.crawler.analyzer.StreamingPageAnalyzer;
+import org.aau.crawler.result.WorkingLink;
+import org.aau.html.Document;
+import org.aau.html.DocumentAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlParserBenchmark {
+
+    private static final String BASE_URL = "https://www.example.com/articles/index.html";
+
+    @Param({"100", "5000"})
+    private int linksPerPage;
+
+    private final HtmlParserImpl parser = new HtmlParserImpl();
+    private final StreamingPageAnalyzer streamingAnalyzer = new StreamingPageAnalyzer();
+    private String html;
+    private Document document;
+
+    @Setup
+    public void setup() {
+        StringBuilder page = new StringBuilder("<!DOCTYPE html><html><head><title>Benchmark</title>")
+                .append("<script>var links = '<a href=\"/ignored\">';</script></head><body>");
+        for (int i = 0; i < linksPerPage; i++) {
+            if (i % 10 == 0) {
+                page.append("<h").append(i / 10 % 5 + 1).append(">Section ").append(i).append(" &amp; more</h").append(i / 10 % 5 + 1).append('>');
+            }
+            page.append("<div class=\"entry\"><p>Some <b>text</b> for entry ").append(i)
+                    .append(" <a href=\"/articles/").append(i).append("?ref=list\">Article ").append(i).append("</a></p></div>\n");
+        }
+        html = page.append("</body></html>").toString();
+        document = new DocumentAdapter(html, BASE_URL);
+    }
+
+    @Benchmark
+    public Set<String> extractLinks() {
+        return parser.extractLinks(document);
+    }
+
+    @Benchmark
+    public Set<String> extractHeadings() {
+        return parser.extractHeadings(document);
+    }
+
+    @Benchmark
+    public PageContent extractContent() {
+        return parser.extractContent(document);
+    }
+
+    @Benchmark
+    public PageContent parseAndExtractContent() {
+        return parser.extractContent(new DocumentAdapter(html, BASE_URL));
+    }
+
+    @Benchmark
+    public WorkingLink streamingAnalyze() {
+        return streamingAnalyzer.analyze(BASE_URL, 0, html);
+    }
+}
@@ -0,0 +1,55 @@
+package org.aau.crawler.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LinkCompareBenchmark {
+
+    @Param({"10000", "200000"})
+    private int linkCount;
+
+    private List<Link> links;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        links = new ArrayList<>(linkCount);
+        for (int i = 0; i < linkCount; i++) {
+            String url = "https://www.example.com/section/" + random.nextInt(linkCount / 4 + 1) + "/page/" + random.nextInt(linkCount);
+            int depth = random.nextInt(4);
+            links.add(i % 10 == 0 ? new BrokenLink(url, depth) : new WorkingLink(url, depth, Set.of(), Set.of()));
+        }
+    }
+
+    @Benchmark
+    public List<Link> sortLinks() {
+        List<Link> sorted = new ArrayList<>(links);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public int compareAdjacentLinks() {
+        int result = 0;
+        for (int i = 1; i < links.size(); i++) {
+            result += links.get(i - 1).compareTo(links.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+package org.aau.writer;
+
+import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.Link;
+import org.aau.crawler.result.WorkingLink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MarkdownWriterBenchmark {
+
+    @Param({"10000", "100000"})
+    private int linkCount;
+
+    private final OffsetDateTime timestamp = OffsetDateTime.parse("2025-01-01T00:00:00Z");
+    private Path outputDir;
+    private MarkdownWriter markdownWriter;
+    private List<Link> links;
+    private List<CrawlingError> errors;
+
+    @Setup
+    public void setup() throws IOException {
+        outputDir = Files.createTempDirectory("markdown-writer-benchmark");
+        markdownWriter = new MarkdownWriter(outputDir.toString());
+        links = new ArrayList<>(linkCount);
+        for (int i = 0; i < linkCount; i++) {
+            String url = "https://www.example.com/page/" + Integer.toHexString(i * 0x9E3779B1);
+            if (i % 20 == 0) {
+                links.add(new BrokenLink(url, i % 3));
+                continue;
+            }
+            Set<String> headings = new LinkedHashSet<>();
+            headings.add("^ Title " + i);
+            headings.add("^^ Section " + i);
+            Set<String> subLinks = new LinkedHashSet<>();
+            for (int j = 0; j < 5; j++) {
+                subLinks.add("https://www.example.com/page/" + (i + j));
+            }
+            links.add(new WorkingLink(url, i % 3, headings, subLinks));
+        }
+        errors = List.of();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public Path writeResultsToFile() throws IOException {
+        return markdownWriter.writeResultsToFile(links, errors, timestamp);
+    }
+
+    @Benchmark
+    public Path writeSortedResultsToFile() throws IOException {
+        return markdownWriter.writeSortedResultsToFile(links, errors, timestamp);
+    }
+}
@@ -1,25 +1,49 @@
 package org.aau;
 
+import org.aau.config.BrowserPoolOptions;
+import org.aau.config.CanonicalizationOptions;
+import org.aau.config.CheckpointOptions;
+import org.aau.config.CommandLineOptions;
 import org.aau.config.DomainFilter;
+import org.aau.config.ExecutorOptions;
+import org.aau.config.FetchMode;
+import org.aau.config.FetchOptions;
+import org.aau.config.FrontierOptions;
+import org.aau.config.HttpClientOptions;
+import org.aau.config.LinkStatusCacheOptions;
+import org.aau.config.PageCacheOptions;
+import org.aau.config.ParserType;
+import org.aau.config.PipelineOptions;
+import org.aau.config.PolitenessOptions;
+import org.aau.config.ReportMode;
+import org.aau.config.ReportOptions;
+import org.aau.config.VisitedIndexMode;
+import org.aau.config.VisitedIndexOptions;
 import org.aau.config.WebCrawlerConfiguration;
 import org.aau.runner.WebCrawlerRunner;
 
+import java.net.http.HttpClient;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public class WebCrawlerService {
 
 
     private static final String DEFAULT_OUTPUT_DIR = "build";
+    private static final String DEFAULT_CHECKPOINT_DIR = "checkpoint";
     private final WebCrawlerRunner webCrawlerRunner;
 
     public WebCrawlerService(WebCrawlerConfiguration configuration) {
         this.webCrawlerRunner = createWebCrawlerRunner(configuration);
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] commandLineArgs) {
+        CommandLineOptions options = CommandLineOptions.parse(commandLineArgs);
+        String[] args = options.positionalArray();
         String startUrl = args[0];
         if (startUrl == null || startUrl.isEmpty()) {
             throw new IllegalArgumentException("Starting URL must not be empty");
@@ -66,12 +90,156 @@ public class WebCrawlerService {
             outputDir = String.join("/", outputDir, subFolder);
         }
 
-        WebCrawlerConfiguration configuration = new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir);
+        ExecutorOptions executorOptions = createExecutorOptions(options, threadCount);
+        WebCrawlerConfiguration configuration = new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir)
+                .withExecutorOptions(executorOptions)
+                .withFetchOptions(createFetchOptions(options))
+                .withBrowserPoolOptions(createBrowserPoolOptions(options, executorOptions))
+                .withPolitenessOptions(createPolitenessOptions(options))
+                .withReportOptions(createReportOptions(options))
+                .withCheckpointOptions(createCheckpointOptions(options, outputDir))
+                .withFrontierOptions(createFrontierOptions(options))
+                .withVisitedIndexOptions(createVisitedIndexOptions(options))
+                .withCanonicalizationOptions(createCanonicalizationOptions(options))
+                .withParserType(createParserType(options))
+                .withPipelineOptions(createPipelineOptions(options))
+                .withHttpClientOptions(createHttpClientOptions(options))
+                .withPageCacheOptions(createPageCacheOptions(options))
+                .withLinkStatusCacheOptions(createLinkStatusCacheOptions(options));
 
         System.out.printf("Starting crawler: configuration=%s", configuration);
         new WebCrawlerService(configuration).execute();
     }
 
+    private static ExecutorOptions createExecutorOptions(CommandLineOptions options, int threadCount) {
+        String executor = options.getOption("executor").orElse("platform");
+        int maxConcurrentTasks = options.getIntOption("max-concurrency", threadCount);
+        return switch (executor.toLowerCase()) {
+            case "platform" -> ExecutorOptions.platformThreads(threadCount);
+            case "virtual" -> ExecutorOptions.virtualThreads(maxConcurrentTasks);
+            case "async" -> ExecutorOptions.asyncFetches(maxConcurrentTasks);
+            default -> throw new IllegalArgumentException("Unknown executor: %s".formatted(executor));
+        };
+    }
+
+    private static FetchOptions createFetchOptions(CommandLineOptions options) {
+        FetchMode fetchMode = options.getOption("fetch-mode")
+                .map(mode -> FetchMode.valueOf(mode.toUpperCase()))
+                .orElse(FetchOptions.defaults().mode());
+        Set<String> renderingMarkers = options.getOption("rendering-markers")
+                .map(markers -> Set.of(markers.split(",")))
+                .orElse(FetchOptions.DEFAULT_RENDERING_MARKERS);
+        return new FetchOptions(fetchMode, renderingMarkers, options.hasOption("check-external-links"));
+    }
+
+    private static BrowserPoolOptions createBrowserPoolOptions(CommandLineOptions options, ExecutorOptions executorOptions) {
+        int size = options.getIntOption("browser-pool-size", BrowserPoolOptions.defaultSize(executorOptions.maxConcurrentTasks()));
+        int maxPagesPerSession = options.getIntOption("browser-max-pages", BrowserPoolOptions.DEFAULT_MAX_PAGES_PER_SESSION);
+        return new BrowserPoolOptions(size, maxPagesPerSession);
+    }
+
+    private static PolitenessOptions createPolitenessOptions(CommandLineOptions options) {
+        int maxConcurrentRequestsPerHost = options.getIntOption("per-host-concurrency", Integer.MAX_VALUE);
+        int minimumDelayMillis = options.getIntOption("per-host-delay", 0);
+        return new PolitenessOptions(maxConcurrentRequestsPerHost, Duration.ofMillis(minimumDelayMillis));
+    }
+
+    private static ReportOptions createReportOptions(CommandLineOptions options) {
+        ReportMode reportMode = options.getOption("report-mode")
+                .map(mode -> ReportMode.valueOf(mode.toUpperCase()))
+                .orElse(ReportMode.SORTED);
+        int maxEntriesInMemory = options.getIntOption("report-sort-chunk", ReportOptions.DEFAULT_MAX_ENTRIES_IN_MEMORY);
+        return new ReportOptions(reportMode, maxEntriesInMemory);
+    }
+
+    private static CheckpointOptions createCheckpointOptions(CommandLineOptions options, String outputDir) {
+        boolean resume = options.hasOption("resume");
+        int snapshotInterval = options.getIntOption("checkpoint-interval", CheckpointOptions.DEFAULT_SNAPSHOT_INTERVAL);
+        Optional<String> directory = options.getOption("checkpoint");
+        if (directory.isEmpty() && !resume) {
+            return CheckpointOptions.disabled();
+        }
+        Path checkpointDirectory = directory.map(Path::of).orElse(Path.of(outputDir, DEFAULT_CHECKPOINT_DIR));
+        return new CheckpointOptions(checkpointDirectory, resume, snapshotInterval);
+    }
+
+    private static FrontierOptions createFrontierOptions(CommandLineOptions options) {
+        FrontierOptions defaults = FrontierOptions.inMemory();
+        int maxTasksInMemory = options.getIntOption("frontier-memory-limit", defaults.maxTasksInMemory());
+        Path spillDirectory = options.getOption("frontier-spill-dir").map(Path::of).orElse(defaults.spillDirectory());
+        return new FrontierOptions(maxTasksInMemory, spillDirectory);
+    }
+
+    private static VisitedIndexOptions createVisitedIndexOptions(CommandLineOptions options) {
+        VisitedIndexMode mode = options.getOption("visited-index")
+                .map(value -> VisitedIndexMode.valueOf(value.toUpperCase()))
+                .orElse(VisitedIndexMode.EXACT);
+        int expectedUrls = options.getIntOption("expected-urls", VisitedIndexOptions.DEFAULT_EXPECTED_URLS);
+        return new VisitedIndexOptions(mode, expectedUrls);
+    }
+
+    private static CanonicalizationOptions createCanonicalizationOptions(CommandLineOptions options) {
+        boolean canonicalize = options.hasOption("canonicalize") || options.hasOption("ignored-query-params")
+                || options.hasOption("sort-query-params") || options.hasOption("strip-trailing-slash");
+        if (!canonicalize) {
+            return CanonicalizationOptions.disabled();
+        }
+        Set<String> ignoredQueryParameters = options.getOption("ignored-query-params")
+                .map(parameters -> Set.of(parameters.split(",")))
+                .orElse(CanonicalizationOptions.DEFAULT_IGNORED_QUERY_PARAMETERS);
+        return new CanonicalizationOptions(true, ignoredQueryParameters, options.hasOption("sort-query-params"), options.hasOption("strip-trailing-slash"));
+    }
+
+    private static ParserType createParserType(CommandLineOptions options) {
+        return options.getOption("parser")
+                .map(parser -> ParserType.valueOf(parser.toUpperCase()))
+                .orElse(ParserType.DOM);
+    }
+
+    private static PipelineOptions createPipelineOptions(CommandLineOptions options) {
+        Optional<String> parseThreadsOption = options.getOption("parse-threads");
+        if (parseThreadsOption.isEmpty()) {
+            return PipelineOptions.inline();
+        }
+        int parseThreads = "auto".equalsIgnoreCase(parseThreadsOption.get())
+                ? Runtime.getRuntime().availableProcessors()
+                : options.getIntOption("parse-threads", 0);
+        int parseQueueCapacity = options.getIntOption("parse-queue", PipelineOptions.defaultQueueCapacity(parseThreads));
+        return new PipelineOptions(parseThreads, parseQueueCapacity);
+    }
+
+    private static HttpClientOptions createHttpClientOptions(CommandLineOptions options) {
+        String httpVersion = options.getOption("http-version").orElse("2");
+        HttpClient.Version version = switch (httpVersion) {
+            case "1.1" -> HttpClient.Version.HTTP_1_1;
+            case "2" -> HttpClient.Version.HTTP_2;
+            default -> throw new IllegalArgumentException("Unknown HTTP version: %s".formatted(httpVersion));
+        };
+        Duration connectTimeout = Duration.ofMillis(options.getIntOption("connect-timeout", (int) HttpClientOptions.DEFAULT_CONNECT_TIMEOUT.toMillis()));
+        Duration requestTimeout = Duration.ofMillis(options.getIntOption("request-timeout", (int) HttpClientOptions.DEFAULT_REQUEST_TIMEOUT.toMillis()));
+        int maxRequestsPerHost = options.getIntOption("max-requests-per-host", Integer.MAX_VALUE);
+        int executorThreads = options.getIntOption("http-client-threads", 0);
+        long maxBodyBytes = options.getIntOption("max-body-size", (int) HttpClientOptions.DEFAULT_MAX_BODY_BYTES);
+        return new HttpClientOptions(version, connectTimeout, requestTimeout, maxRequestsPerHost, executorThreads, maxBodyBytes);
+    }
+
+    private static PageCacheOptions createPageCacheOptions(CommandLineOptions options) {
+        return options.getOption("page-cache")
+                .map(directory -> new PageCacheOptions(Path.of(directory)))
+                .orElse(PageCacheOptions.disabled());
+    }
+
+    private static LinkStatusCacheOptions createLinkStatusCacheOptions(CommandLineOptions options) {
+        Optional<String> file = options.getOption("link-status-cache");
+        if (file.isEmpty()) {
+            return LinkStatusCacheOptions.disabled();
+        }
+        Duration successTtl = Duration.ofMinutes(options.getIntOption("link-status-ttl-success", (int) LinkStatusCacheOptions.DEFAULT_SUCCESS_TTL.toMinutes()));
+        Duration clientErrorTtl = Duration.ofMinutes(options.getIntOption("link-status-ttl-client-error", (int) LinkStatusCacheOptions.DEFAULT_CLIENT_ERROR_TTL.toMinutes()));
+        Duration serverErrorTtl = Duration.ofMinutes(options.getIntOption("link-status-ttl-server-error", (int) LinkStatusCacheOptions.DEFAULT_SERVER_ERROR_TTL.toMinutes()));
+        return new LinkStatusCacheOptions(Path.of(file.get()), successTtl, clientErrorTtl, serverErrorTtl);
+    }
+
     protected WebCrawlerRunner createWebCrawlerRunner(WebCrawlerConfiguration configuration) {
         return new WebCrawlerRunner(configuration);
     }
@@ -0,0 +1,28 @@
+package org.aau.config;
+
+public record BrowserPoolOptions(int size, int maxPagesPerSession) {
+
+    public static final int DEFAULT_MAX_PAGES_PER_SESSION = 200;
+
+    public BrowserPoolOptions {
+        if (size < 1) {
+            throw new IllegalArgumentException("Browser pool size cannot be less than 1");
+        }
+        if (maxPagesPerSession < 1) {
+            throw new IllegalArgumentException("Maximum pages per browser session cannot be less than 1");
+        }
+    }
+
+    public static BrowserPoolOptions defaults(int concurrency) {
+        return new BrowserPoolOptions(defaultSize(concurrency), DEFAULT_MAX_PAGES_PER_SESSION);
+    }
+
+    public static int defaultSize(int concurrency) {
+        return Math.max(1, Math.min(concurrency, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Override
+    public String toString() {
+        return "(size = %d, maxPagesPerSession = %d)".formatted(size, maxPagesPerSession);
+    }
+}
@@ -0,0 +1,29 @@
+package org.aau.config;
+
+import java.util.Set;
+
+public record CanonicalizationOptions(boolean enabled, Set<String> ignoredQueryParameters, boolean sortQueryParameters, boolean removeTrailingSlash) {
+
+    public static final Set<String> DEFAULT_IGNORED_QUERY_PARAMETERS = Set.of("utm_*", "gclid", "fbclid");
+
+    public CanonicalizationOptions {
+        ignoredQueryParameters = ignoredQueryParameters == null ? Set.of() : Set.copyOf(ignoredQueryParameters);
+    }
+
+    public static CanonicalizationOptions standard() {
+        return new CanonicalizationOptions(true, DEFAULT_IGNORED_QUERY_PARAMETERS, false, false);
+    }
+
+    public static CanonicalizationOptions disabled() {
+        return new CanonicalizationOptions(false, Set.of(), false, false);
+    }
+
+    @Override
+    public String toString() {
+        if (!enabled) {
+            return "disabled";
+        }
+        return "(ignoredQueryParameters = [%s], sortQueryParameters = %s, removeTrailingSlash = %s)".formatted(
+                String.join(", ", ignoredQueryParameters), sortQueryParameters, removeTrailingSlash);
+    }
+}
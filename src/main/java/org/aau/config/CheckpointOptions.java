@@ -0,0 +1,33 @@
+package org.aau.config;
+
+import java.nio.file.Path;
+
+public record CheckpointOptions(Path directory, boolean resume, int snapshotInterval) {
+
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10_000;
+
+    public CheckpointOptions {
+        if (resume && directory == null) {
+            throw new IllegalArgumentException("Resuming a crawl requires a checkpoint directory");
+        }
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Checkpoint snapshot interval cannot be less than 1");
+        }
+    }
+
+    public static CheckpointOptions disabled() {
+        return new CheckpointOptions(null, false, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    @Override
+    public String toString() {
+        if (!isEnabled()) {
+            return "disabled";
+        }
+        return "(directory = %s, resume = %s, snapshotInterval = %d)".formatted(directory, resume, snapshotInterval);
+    }
+}
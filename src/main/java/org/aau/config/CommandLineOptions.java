@@ -0,0 +1,57 @@
+package org.aau.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public record CommandLineOptions(List<String> positionalArguments, Map<String, String> namedOptions) {
+
+    private static final String OPTION_PREFIX = "--";
+
+    public static CommandLineOptions parse(String[] args) {
+        List<String> positional = new ArrayList<>();
+        Map<String, String> named = new HashMap<>();
+        for (String arg : args) {
+            if (arg != null && arg.startsWith(OPTION_PREFIX)) {
+                String option = arg.substring(OPTION_PREFIX.length());
+                int separator = option.indexOf('=');
+                if (separator < 0) {
+                    named.put(option, Boolean.TRUE.toString());
+                } else {
+                    named.put(option.substring(0, separator), option.substring(separator + 1));
+                }
+            } else {
+                positional.add(arg);
+            }
+        }
+        return new CommandLineOptions(Collections.unmodifiableList(positional), Collections.unmodifiableMap(named));
+    }
+
+    public String[] positionalArray() {
+        return positionalArguments.toArray(new String[0]);
+    }
+
+    public boolean hasOption(String name) {
+        return namedOptions.containsKey(name);
+    }
+
+    public Optional<String> getOption(String name) {
+        return Optional.ofNullable(namedOptions.get(name));
+    }
+
+    public int getIntOption(String name, int defaultValue) {
+        String value = namedOptions.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.printf("Error when parsing option %s: %s\n", name, e.getMessage());
+            throw new NumberFormatException("Option %s is not a valid number!".formatted(name));
+        }
+    }
+}
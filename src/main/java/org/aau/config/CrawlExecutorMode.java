@@ -0,0 +1,7 @@
+package org.aau.config;
+
+public enum CrawlExecutorMode {
+    PLATFORM_THREADS,
+    VIRTUAL_THREADS,
+    ASYNC
+}
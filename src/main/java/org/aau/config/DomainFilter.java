@@ -1,6 +1,7 @@
 package org.aau.config;
 
 import org.aau.util.StringUtil;
+import org.aau.util.UrlUtil;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -54,14 +55,32 @@ public class DomainFilter {
             return true;
         }
 
-        Optional<String> domain = getDomainFromUrl(urlString);
-        if (domain.isEmpty()) {
+        String host = UrlUtil.getHost(urlString);
+        if (!isValidHost(host)) {
             return false;
         }
 
-        String domainValue = domain.get();
-        return allowedDomains.stream()
-                .anyMatch(allowedDomain -> domainValue.equals(allowedDomain) || domainValue.endsWith("." + allowedDomain));
+        String domain = host;
+        while (!allowedDomains.contains(domain)) {
+            int nextLabel = domain.indexOf('.');
+            if (nextLabel < 0) {
+                return false;
+            }
+            domain = domain.substring(nextLabel + 1);
+        }
+        return true;
+    }
+
+    private boolean isValidHost(String host) {
+        if (host.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < host.length(); i++) {
+            if (Character.isWhitespace(host.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public Set<String> getAllowedDomains() {
@@ -0,0 +1,38 @@
+package org.aau.config;
+
+public record ExecutorOptions(CrawlExecutorMode mode, int maxConcurrentTasks) {
+
+    public ExecutorOptions {
+        if (mode == null) {
+            throw new IllegalArgumentException("Executor mode must not be null");
+        }
+        if (maxConcurrentTasks < 1) {
+            throw new IllegalArgumentException("Maximum concurrent tasks cannot be less than 1");
+        }
+    }
+
+    public static ExecutorOptions platformThreads(int threadCount) {
+        return new ExecutorOptions(CrawlExecutorMode.PLATFORM_THREADS, threadCount);
+    }
+
+    public static ExecutorOptions virtualThreads(int maxConcurrentTasks) {
+        return new ExecutorOptions(CrawlExecutorMode.VIRTUAL_THREADS, maxConcurrentTasks);
+    }
+
+    public static ExecutorOptions asyncFetches(int maxInFlightRequests) {
+        return new ExecutorOptions(CrawlExecutorMode.ASYNC, maxInFlightRequests);
+    }
+
+    public boolean usesVirtualThreads() {
+        return mode == CrawlExecutorMode.VIRTUAL_THREADS;
+    }
+
+    public boolean usesAsyncFetches() {
+        return mode == CrawlExecutorMode.ASYNC;
+    }
+
+    @Override
+    public String toString() {
+        return "%s(maxConcurrentTasks = %d)".formatted(mode, maxConcurrentTasks);
+    }
+}
@@ -0,0 +1,7 @@
+package org.aau.config;
+
+public enum FetchMode {
+    BROWSER,
+    HTTP,
+    AUTO
+}
@@ -0,0 +1,42 @@
+package org.aau.config;
+
+import java.util.Set;
+
+public record FetchOptions(FetchMode mode, Set<String> renderingMarkers, boolean checkExternalLinks) {
+
+    public static final Set<String> DEFAULT_RENDERING_MARKERS = Set.of(
+            "<div id=\"root\"></div>",
+            "<div id=\"app\"></div>",
+            "<div id=\"__next\"></div>",
+            "<app-root></app-root>",
+            "You need to enable JavaScript to run this app"
+    );
+
+    public FetchOptions {
+        if (mode == null) {
+            throw new IllegalArgumentException("Fetch mode must not be null");
+        }
+        renderingMarkers = renderingMarkers == null ? Set.of() : Set.copyOf(renderingMarkers);
+    }
+
+    public FetchOptions(FetchMode mode, Set<String> renderingMarkers) {
+        this(mode, renderingMarkers, false);
+    }
+
+    public static FetchOptions defaults() {
+        return new FetchOptions(FetchMode.AUTO, DEFAULT_RENDERING_MARKERS);
+    }
+
+    public static FetchOptions of(FetchMode mode) {
+        return new FetchOptions(mode, DEFAULT_RENDERING_MARKERS);
+    }
+
+    public FetchOptions withExternalLinkChecks(boolean checkExternalLinks) {
+        return new FetchOptions(mode, renderingMarkers, checkExternalLinks);
+    }
+
+    @Override
+    public String toString() {
+        return checkExternalLinks ? "%s(external links checked)".formatted(mode) : mode.toString();
+    }
+}
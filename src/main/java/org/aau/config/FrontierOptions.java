@@ -0,0 +1,31 @@
+package org.aau.config;
+
+import java.nio.file.Path;
+
+public record FrontierOptions(int maxTasksInMemory, Path spillDirectory) {
+
+    public FrontierOptions {
+        if (maxTasksInMemory < 1) {
+            throw new IllegalArgumentException("Maximum crawl tasks in memory cannot be less than 1");
+        }
+        if (spillDirectory == null) {
+            throw new IllegalArgumentException("Frontier spill directory must not be null");
+        }
+    }
+
+    public static FrontierOptions inMemory() {
+        return new FrontierOptions(Integer.MAX_VALUE, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    public boolean spillsToDisk() {
+        return maxTasksInMemory != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        if (!spillsToDisk()) {
+            return "in-memory";
+        }
+        return "(maxTasksInMemory = %d, spillDirectory = %s)".formatted(maxTasksInMemory, spillDirectory);
+    }
+}
@@ -0,0 +1,63 @@
+package org.aau.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+public record HttpClientOptions(HttpClient.Version version, Duration connectTimeout, Duration requestTimeout, int maxRequestsPerHost, int executorThreads, long maxBodyBytes) {
+
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    public static final long DEFAULT_MAX_BODY_BYTES = 10L * 1024 * 1024;
+
+    public HttpClientOptions {
+        if (version == null) {
+            throw new IllegalArgumentException("HTTP version must not be null");
+        }
+        if (connectTimeout == null || connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("Connect timeout must be positive");
+        }
+        if (requestTimeout == null || requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("Request timeout must be positive");
+        }
+        if (maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException("Maximum requests per host cannot be less than 1");
+        }
+        if (executorThreads < 0) {
+            throw new IllegalArgumentException("HTTP client threads cannot be negative");
+        }
+        if (maxBodyBytes < 1) {
+            throw new IllegalArgumentException("Maximum body size cannot be less than 1 byte");
+        }
+    }
+
+    public static HttpClientOptions defaults() {
+        return new HttpClientOptions(HttpClient.Version.HTTP_2, DEFAULT_CONNECT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT, Integer.MAX_VALUE, 0, DEFAULT_MAX_BODY_BYTES);
+    }
+
+    public HttpClientOptions withVersion(HttpClient.Version version) {
+        return new HttpClientOptions(version, connectTimeout, requestTimeout, maxRequestsPerHost, executorThreads, maxBodyBytes);
+    }
+
+    public HttpClientOptions withMaxRequestsPerHost(int maxRequestsPerHost) {
+        return new HttpClientOptions(version, connectTimeout, requestTimeout, maxRequestsPerHost, executorThreads, maxBodyBytes);
+    }
+
+    public HttpClientOptions withMaxBodyBytes(long maxBodyBytes) {
+        return new HttpClientOptions(version, connectTimeout, requestTimeout, maxRequestsPerHost, executorThreads, maxBodyBytes);
+    }
+
+    public boolean limitsRequestsPerHost() {
+        return maxRequestsPerHost != Integer.MAX_VALUE;
+    }
+
+    public boolean usesDedicatedExecutor() {
+        return executorThreads > 0;
+    }
+
+    @Override
+    public String toString() {
+        String requests = limitsRequestsPerHost() ? String.valueOf(maxRequestsPerHost) : "unlimited";
+        String executor = usesDedicatedExecutor() ? String.valueOf(executorThreads) : "default";
+        return "(version = %s, connectTimeout = %d ms, requestTimeout = %d ms, maxRequestsPerHost = %s, threads = %s, maxBodyBytes = %d)".formatted(version, connectTimeout.toMillis(), requestTimeout.toMillis(), requests, executor, maxBodyBytes);
+    }
+}
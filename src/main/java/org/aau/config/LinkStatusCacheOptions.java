@@ -0,0 +1,51 @@
+package org.aau.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LinkStatusCacheOptions(Path file, Duration successTtl, Duration clientErrorTtl, Duration serverErrorTtl) {
+
+    public static final Duration DEFAULT_SUCCESS_TTL = Duration.ofHours(24);
+    public static final Duration DEFAULT_CLIENT_ERROR_TTL = Duration.ofHours(6);
+    public static final Duration DEFAULT_SERVER_ERROR_TTL = Duration.ofMinutes(15);
+
+    public LinkStatusCacheOptions {
+        if (isInvalidTtl(successTtl) || isInvalidTtl(clientErrorTtl) || isInvalidTtl(serverErrorTtl)) {
+            throw new IllegalArgumentException("Link status TTLs must not be negative");
+        }
+    }
+
+    public LinkStatusCacheOptions(Path file) {
+        this(file, DEFAULT_SUCCESS_TTL, DEFAULT_CLIENT_ERROR_TTL, DEFAULT_SERVER_ERROR_TTL);
+    }
+
+    public static LinkStatusCacheOptions disabled() {
+        return new LinkStatusCacheOptions(null);
+    }
+
+    private static boolean isInvalidTtl(Duration ttl) {
+        return ttl == null || ttl.isNegative();
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    public Duration ttlFor(int statusCode) {
+        if (statusCode >= 0 && statusCode < 400) {
+            return successTtl;
+        }
+        if (statusCode >= 400 && statusCode < 500) {
+            return clientErrorTtl;
+        }
+        return serverErrorTtl;
+    }
+
+    @Override
+    public String toString() {
+        if (!isEnabled()) {
+            return "disabled";
+        }
+        return "(file = %s, successTtl = %d min, clientErrorTtl = %d min, serverErrorTtl = %d min)".formatted(file, successTtl.toMinutes(), clientErrorTtl.toMinutes(), serverErrorTtl.toMinutes());
+    }
+}
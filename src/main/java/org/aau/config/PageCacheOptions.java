@@ -0,0 +1,22 @@
+package org.aau.config;
+
+import java.nio.file.Path;
+
+public record PageCacheOptions(Path directory) {
+
+    public static PageCacheOptions disabled() {
+        return new PageCacheOptions(null);
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    @Override
+    public String toString() {
+        if (!isEnabled()) {
+            return "disabled";
+        }
+        return "(directory = %s)".formatted(directory);
+    }
+}
@@ -0,0 +1,37 @@
+package org.aau.config;
+
+public record PipelineOptions(int parseThreads, int parseQueueCapacity) {
+
+    public PipelineOptions {
+        if (parseThreads < 0) {
+            throw new IllegalArgumentException("Parse threads cannot be negative");
+        }
+        if (parseQueueCapacity < 0) {
+            throw new IllegalArgumentException("Parse queue capacity cannot be negative");
+        }
+    }
+
+    public static PipelineOptions inline() {
+        return new PipelineOptions(0, 0);
+    }
+
+    public static PipelineOptions parseThreads(int parseThreads) {
+        return new PipelineOptions(parseThreads, defaultQueueCapacity(parseThreads));
+    }
+
+    public static int defaultQueueCapacity(int parseThreads) {
+        return 2 * parseThreads;
+    }
+
+    public boolean isPipelined() {
+        return parseThreads > 0;
+    }
+
+    @Override
+    public String toString() {
+        if (!isPipelined()) {
+            return "inline";
+        }
+        return "(parseThreads = %d, parseQueueCapacity = %d)".formatted(parseThreads, parseQueueCapacity);
+    }
+}
@@ -0,0 +1,25 @@
+package org.aau.config;
+
+import java.time.Duration;
+
+public record PolitenessOptions(int maxConcurrentRequestsPerHost, Duration minimumDelayPerHost) {
+
+    public PolitenessOptions {
+        if (maxConcurrentRequestsPerHost < 1) {
+            throw new IllegalArgumentException("Maximum concurrent requests per host cannot be less than 1");
+        }
+        if (minimumDelayPerHost == null || minimumDelayPerHost.isNegative()) {
+            throw new IllegalArgumentException("Minimum delay per host must not be negative");
+        }
+    }
+
+    public static PolitenessOptions unlimited() {
+        return new PolitenessOptions(Integer.MAX_VALUE, Duration.ZERO);
+    }
+
+    @Override
+    public String toString() {
+        String concurrency = maxConcurrentRequestsPerHost == Integer.MAX_VALUE ? "unlimited" : String.valueOf(maxConcurrentRequestsPerHost);
+        return "(maxConcurrentRequestsPerHost = %s, minimumDelayPerHost = %d ms)".formatted(concurrency, minimumDelayPerHost.toMillis());
+    }
+}
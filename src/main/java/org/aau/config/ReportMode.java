@@ -0,0 +1,7 @@
+package org.aau.config;
+
+public enum ReportMode {
+    SORTED,
+    UNSORTED,
+    INCREMENTAL
+}
@@ -0,0 +1,24 @@
+package org.aau.config;
+
+public record ReportOptions(ReportMode mode, int maxEntriesInMemory) {
+
+    public static final int DEFAULT_MAX_ENTRIES_IN_MEMORY = 10_000;
+
+    public ReportOptions {
+        if (mode == null) {
+            throw new IllegalArgumentException("Report mode must not be null");
+        }
+        if (maxEntriesInMemory < 1) {
+            throw new IllegalArgumentException("Maximum report entries in memory cannot be less than 1");
+        }
+    }
+
+    public static ReportOptions defaults() {
+        return new ReportOptions(ReportMode.SORTED, DEFAULT_MAX_ENTRIES_IN_MEMORY);
+    }
+
+    @Override
+    public String toString() {
+        return "%s(maxEntriesInMemory = %d)".formatted(mode, maxEntriesInMemory);
+    }
+}
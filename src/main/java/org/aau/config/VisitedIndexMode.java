@@ -0,0 +1,6 @@
+package org.aau.config;
+
+public enum VisitedIndexMode {
+    EXACT,
+    COMPACT
+}
@@ -0,0 +1,35 @@
+package org.aau.config;
+
+public record VisitedIndexOptions(VisitedIndexMode mode, int expectedUrls) {
+
+    public static final int DEFAULT_EXPECTED_URLS = 1 << 20;
+
+    public VisitedIndexOptions {
+        if (mode == null) {
+            throw new IllegalArgumentException("Visited index mode must not be null");
+        }
+        if (expectedUrls < 1) {
+            throw new IllegalArgumentException("Expected number of URLs cannot be less than 1");
+        }
+    }
+
+    public static VisitedIndexOptions exact() {
+        return new VisitedIndexOptions(VisitedIndexMode.EXACT, DEFAULT_EXPECTED_URLS);
+    }
+
+    public static VisitedIndexOptions compact(int expectedUrls) {
+        return new VisitedIndexOptions(VisitedIndexMode.COMPACT, expectedUrls);
+    }
+
+    public boolean isCompact() {
+        return mode == VisitedIndexMode.COMPACT;
+    }
+
+    @Override
+    public String toString() {
+        if (!isCompact()) {
+            return "exact";
+        }
+        return "(mode = compact, expectedUrls = %d)".formatted(expectedUrls);
+    }
+}
@@ -5,21 +5,109 @@ public record WebCrawlerConfiguration(
         int maximumDepth,
         int threadCount,
         DomainFilter domainFilter,
-        String outputDir
+        String outputDir,
+        ExecutorOptions executorOptions,
+        FetchOptions fetchOptions,
+        BrowserPoolOptions browserPoolOptions,
+        PolitenessOptions politenessOptions,
+        ReportOptions reportOptions,
+        CheckpointOptions checkpointOptions,
+        FrontierOptions frontierOptions,
+        VisitedIndexOptions visitedIndexOptions,
+        CanonicalizationOptions canonicalizationOptions,
+        ParserType parserType,
+        PipelineOptions pipelineOptions,
+        HttpClientOptions httpClientOptions,
+        PageCacheOptions pageCacheOptions,
+        LinkStatusCacheOptions linkStatusCacheOptions
 ) {
 
+    public WebCrawlerConfiguration(String startUrl, int maximumDepth, int threadCount, DomainFilter domainFilter, String outputDir) {
+        this(startUrl, maximumDepth, threadCount, domainFilter, outputDir, ExecutorOptions.platformThreads(Math.max(threadCount, 1)), FetchOptions.defaults(), BrowserPoolOptions.defaults(threadCount), PolitenessOptions.unlimited(), ReportOptions.defaults(), CheckpointOptions.disabled(), FrontierOptions.inMemory(), VisitedIndexOptions.exact(), CanonicalizationOptions.disabled(), ParserType.DOM, PipelineOptions.inline(), HttpClientOptions.defaults(), PageCacheOptions.disabled(), LinkStatusCacheOptions.disabled());
+    }
+
+    public WebCrawlerConfiguration withExecutorOptions(ExecutorOptions executorOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withFetchOptions(FetchOptions fetchOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withBrowserPoolOptions(BrowserPoolOptions browserPoolOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withPolitenessOptions(PolitenessOptions politenessOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withReportOptions(ReportOptions reportOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withCheckpointOptions(CheckpointOptions checkpointOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withFrontierOptions(FrontierOptions frontierOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withVisitedIndexOptions(VisitedIndexOptions visitedIndexOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withCanonicalizationOptions(CanonicalizationOptions canonicalizationOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withParserType(ParserType parserType) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withPipelineOptions(PipelineOptions pipelineOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withHttpClientOptions(HttpClientOptions httpClientOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withPageCacheOptions(PageCacheOptions pageCacheOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
+    public WebCrawlerConfiguration withLinkStatusCacheOptions(LinkStatusCacheOptions linkStatusCacheOptions) {
+        return new WebCrawlerConfiguration(startUrl, maximumDepth, threadCount, domainFilter, outputDir, executorOptions, fetchOptions, browserPoolOptions, politenessOptions, reportOptions, checkpointOptions, frontierOptions, visitedIndexOptions, canonicalizationOptions, parserType, pipelineOptions, httpClientOptions, pageCacheOptions, linkStatusCacheOptions);
+    }
+
     public boolean isAllowedDomain(String url) {
         return domainFilter().isAllowedDomain(url);
     }
 
     @Override
     public String toString() {
-        return "%s[startUrl = %s, maximumDepth = %s, threadCount = %s, allowedDomains = [%s], outputDir = %s]%n".formatted(
+        return "%s[startUrl = %s, maximumDepth = %s, threadCount = %s, allowedDomains = [%s], outputDir = %s, executor = %s, fetchMode = %s, browserPool = %s, politeness = %s, report = %s, checkpoint = %s, frontier = %s, visitedIndex = %s, canonicalization = %s, parser = %s, pipeline = %s, httpClient = %s, pageCache = %s, linkStatusCache = %s]%n".formatted(
                 this.getClass().getSimpleName(),
                 startUrl,
                 maximumDepth,
                 threadCount,
                 String.join(", ", domainFilter.getAllowedDomains()),
-                outputDir);
+                outputDir,
+                executorOptions,
+                fetchOptions,
+                browserPoolOptions,
+                politenessOptions,
+                reportOptions,
+                checkpointOptions,
+                frontierOptions,
+                visitedIndexOptions,
+                canonicalizationOptions,
+                parserType,
+                pipelineOptions,
+                httpClientOptions,
+                pageCacheOptions,
+                linkStatusCacheOptions);
     }
 }
@@ -1,6 +1,7 @@
 package org.aau.crawler;
 
 import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.CrawlResultSink;
 import org.aau.crawler.result.Link;
 
 import java.util.List;
@@ -9,8 +10,12 @@ import java.util.Set;
 public interface WebCrawler {
     void start();
 
+    void setResultSink(CrawlResultSink resultSink);
+
     Set<Link> getCrawledLinks();
 
+    long getCrawledLinkCount();
+
     List<CrawlingError> getErrors();
 
     void awaitCompletion() throws InterruptedException;
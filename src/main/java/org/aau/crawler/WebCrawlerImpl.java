@@ -1,11 +1,45 @@
 package org.aau.crawler;
 
+import org.aau.config.BrowserPoolOptions;
+import org.aau.config.CheckpointOptions;
+import org.aau.config.LinkStatusCacheOptions;
+import org.aau.config.PageCacheOptions;
+import org.aau.config.FrontierOptions;
+import org.aau.config.PipelineOptions;
+import org.aau.config.VisitedIndexOptions;
 import org.aau.config.WebCrawlerConfiguration;
+import org.aau.crawler.cache.FileLinkStatusCache;
+import org.aau.crawler.cache.FilePageCache;
+import org.aau.crawler.cache.LinkStatusCache;
+import org.aau.crawler.cache.PageCache;
+import org.aau.crawler.canonicalizer.UrlCanonicalizerImpl;
+import org.aau.crawler.checkpoint.CheckpointState;
+import org.aau.crawler.checkpoint.CrawlCheckpoint;
+import org.aau.crawler.checkpoint.FileCrawlCheckpoint;
+import org.aau.crawler.concurrent.AsyncWebCrawlerRunnable;
+import org.aau.crawler.concurrent.BoundedParseStage;
+import org.aau.crawler.concurrent.CrawlCounters;
+import org.aau.crawler.concurrent.CrawlServices;
 import org.aau.crawler.concurrent.CrawlTask;
+import org.aau.crawler.concurrent.HostPolitenessQueue;
+import org.aau.crawler.concurrent.ParseStage;
+import org.aau.crawler.concurrent.SpillingCrawlQueue;
+import org.aau.crawler.concurrent.VirtualThreadWebCrawlerRunnable;
 import org.aau.crawler.concurrent.WebCrawlerRunnable;
 import org.aau.crawler.concurrent.WebCrawlerSharedState;
 import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.CrawlResultSink;
 import org.aau.crawler.result.Link;
+import org.aau.crawler.visited.CompactVisitedUrlIndex;
+import org.aau.crawler.visited.VisitedUrlIndex;
+import org.aau.crawler.visited.VisitedUrlIndexImpl;
+import org.aau.http.HttpClient;
+import org.aau.http.HttpClientImpl;
+import org.aau.http.SharedHttpClient;
+import org.aau.web.SharedWebDriver;
+import org.aau.web.WebDriver;
+import org.aau.web.WebDriverImpl;
+import org.aau.web.WebDriverPool;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -16,7 +50,6 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -30,6 +63,15 @@ public class WebCrawlerImpl implements WebCrawler {
     private final AtomicInteger activeThreads = new AtomicInteger(0);
     private final CountDownLatch completionLatch;
     private final List<CrawlingError> crawlingErrors;
+    private final VisitedUrlIndex visitedUrls;
+    private final CrawlCounters counters = new CrawlCounters();
+    private final WebDriver webDriverPool;
+    private final HttpClient httpClient;
+    private final CrawlCheckpoint checkpoint;
+    private final ParseStage parseStage;
+    private final PageCache pageCache;
+    private final LinkStatusCache linkStatusCache;
+    private CrawlResultSink resultSink = CrawlResultSink.NONE;
 
     public WebCrawlerImpl(WebCrawlerConfiguration configuration) {
         this.configuration = configuration;
@@ -38,9 +80,22 @@ public class WebCrawlerImpl implements WebCrawler {
         this.urlQueue = createUrlQueue();
         this.completionLatch = createCompletionLatch();
         this.crawlingErrors = createSynchronizedErrorsList();
+        this.visitedUrls = createVisitedUrlIndex();
+        this.webDriverPool = createWebDriverPool();
+        this.httpClient = createHttpClient();
+        this.checkpoint = createCrawlCheckpoint();
+        this.parseStage = createParseStage();
+        this.pageCache = createPageCache();
+        this.linkStatusCache = createLinkStatusCache();
     }
 
     protected ExecutorService createExecutorService(int threadCount) {
+        if (configuration.executorOptions().usesVirtualThreads()) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        if (configuration.executorOptions().usesAsyncFetches()) {
+            return Executors.newFixedThreadPool(threadCount + 1);
+        }
         return Executors.newFixedThreadPool(threadCount);
     }
 
@@ -49,27 +104,94 @@ public class WebCrawlerImpl implements WebCrawler {
     }
 
     protected BlockingQueue<CrawlTask> createUrlQueue() {
-        return new LinkedBlockingQueue<>();
+        BlockingQueue<CrawlTask> politenessQueue = new HostPolitenessQueue(configuration.politenessOptions());
+        FrontierOptions frontierOptions = configuration.frontierOptions();
+        if (!frontierOptions.spillsToDisk()) {
+            return politenessQueue;
+        }
+        return new SpillingCrawlQueue(politenessQueue, frontierOptions.maxTasksInMemory(), frontierOptions.spillDirectory());
     }
 
     protected List<CrawlingError> createSynchronizedErrorsList() {
         return Collections.synchronizedList(new ArrayList<>());
     }
 
+    protected VisitedUrlIndex createVisitedUrlIndex() {
+        VisitedIndexOptions visitedIndexOptions = configuration.visitedIndexOptions();
+        if (visitedIndexOptions.isCompact()) {
+            return new CompactVisitedUrlIndex(visitedIndexOptions.expectedUrls());
+        }
+        return new VisitedUrlIndexImpl();
+    }
+
+    protected ParseStage createParseStage() {
+        PipelineOptions pipelineOptions = configuration.pipelineOptions();
+        if (!pipelineOptions.isPipelined()) {
+            return ParseStage.INLINE;
+        }
+        return new BoundedParseStage(pipelineOptions.parseThreads(), pipelineOptions.parseQueueCapacity());
+    }
+
+    protected String canonicalStartUrl() {
+        return new UrlCanonicalizerImpl(configuration.canonicalizationOptions()).canonicalize(configuration.startUrl());
+    }
+
+    protected WebDriver createWebDriverPool() {
+        BrowserPoolOptions browserPoolOptions = configuration.browserPoolOptions();
+        System.out.printf("Creating browser pool: size=%d, maxPagesPerSession=%d%n", browserPoolOptions.size(), browserPoolOptions.maxPagesPerSession());
+        return new WebDriverPool(WebDriverImpl::new, browserPoolOptions.size(), browserPoolOptions.maxPagesPerSession());
+    }
+
+    protected HttpClient createHttpClient() {
+        return new HttpClientImpl(configuration.httpClientOptions());
+    }
+
+    protected CrawlCheckpoint createCrawlCheckpoint() {
+        CheckpointOptions checkpointOptions = configuration.checkpointOptions();
+        if (!checkpointOptions.isEnabled()) {
+            return CrawlCheckpoint.NONE;
+        }
+        return new FileCrawlCheckpoint(checkpointOptions.directory(), checkpointOptions.resume(), checkpointOptions.snapshotInterval());
+    }
+
+    protected PageCache createPageCache() {
+        PageCacheOptions pageCacheOptions = configuration.pageCacheOptions();
+        if (!pageCacheOptions.isEnabled()) {
+            return PageCache.NONE;
+        }
+        return new FilePageCache(pageCacheOptions.directory());
+    }
+
+    protected LinkStatusCache createLinkStatusCache() {
+        LinkStatusCacheOptions linkStatusCacheOptions = configuration.linkStatusCacheOptions();
+        if (!linkStatusCacheOptions.isEnabled()) {
+            return LinkStatusCache.NONE;
+        }
+        return new FileLinkStatusCache(linkStatusCacheOptions);
+    }
+
     protected CountDownLatch createCompletionLatch() {
         return new CountDownLatch(1);
     }
 
+    @Override
+    public void setResultSink(CrawlResultSink resultSink) {
+        this.resultSink = resultSink;
+    }
+
     @Override
     public void start() {
         try {
-            this.urlQueue.put(new CrawlTask(configuration.startUrl(), 0));
-            System.out.printf("Starting Crawler with %d threads.%n", configuration.threadCount());
-            WebCrawlerSharedState sharedState = new WebCrawlerSharedState(urlQueue, crawledLinks, activeThreads, completionLatch, crawlingErrors);
-            for (int i = 0; i < configuration.threadCount(); i++) {
-                crawlExecutor.submit(new WebCrawlerRunnable(sharedState, configuration));
+            WebCrawlerSharedState sharedState = new WebCrawlerSharedState(urlQueue, crawledLinks, activeThreads, completionLatch, crawlingErrors)
+                    .withVisitedUrls(visitedUrls)
+                    .withCounters(counters)
+                    .withServices(new CrawlServices(resultSink, checkpoint, parseStage, pageCache, linkStatusCache));
+            if (!restoreFromCheckpoint(sharedState)) {
+                sharedState.addTask(new CrawlTask(canonicalStartUrl(), 0));
             }
+            submitWorkers(sharedState);
             awaitCompletion();
+            System.out.printf("Crawl completed with %d crawled links, suppressed %d duplicate crawl tasks.%n", counters.crawledLinks().get(), counters.suppressedDuplicates().get());
         } catch (InterruptedException e) {
             System.err.printf("Crawler interrupted during start: %s%n", e.getMessage());
             crawlingErrors.add(new CrawlingError("Crawler interrupted during start", e));
@@ -79,7 +201,61 @@ public class WebCrawlerImpl implements WebCrawler {
             crawlingErrors.add(new CrawlingError("An unexpected error occurred during crawling", e));
         } finally {
             shutdownExecutor();
+            closeParseStage();
+            closeWebDriverPool();
+            closeHttpClient();
+            closeCrawlCheckpoint();
+            closePageCache();
+            closeLinkStatusCache();
+            closeUrlQueue();
+        }
+    }
+
+    protected boolean restoreFromCheckpoint(WebCrawlerSharedState sharedState) throws InterruptedException {
+        CheckpointState checkpointState = checkpoint.restore();
+        if (checkpointState.isEmpty()) {
+            return false;
+        }
+        System.out.printf("Resuming crawl with %d crawled links and %d pending tasks.%n", checkpointState.crawledLinks().size(), checkpointState.pendingTasks().size());
+        checkpointState.crawledLinks().forEach(sharedState::restoreCrawledLink);
+        checkpointState.enqueuedUrls().forEach(visitedUrls::claim);
+        for (CrawlTask task : checkpointState.pendingTasks()) {
+            sharedState.restoreTask(task);
         }
+        if (checkpointState.pendingTasks().isEmpty()) {
+            System.out.println("Checkpoint contains no pending tasks, crawl is already complete.");
+            sharedState.countDownCompletionLatch();
+        }
+        return true;
+    }
+
+    protected void submitWorkers(WebCrawlerSharedState sharedState) {
+        if (configuration.executorOptions().usesVirtualThreads()) {
+            System.out.printf("Starting Crawler on virtual threads with up to %d concurrent tasks.%n", configuration.executorOptions().maxConcurrentTasks());
+            crawlExecutor.submit(createVirtualThreadWebCrawlerRunnable(sharedState, crawlExecutor, new SharedWebDriver(webDriverPool), new SharedHttpClient(httpClient)));
+            return;
+        }
+        if (configuration.executorOptions().usesAsyncFetches()) {
+            System.out.printf("Starting Crawler with up to %d requests in flight, analyzed by %d threads.%n", configuration.executorOptions().maxConcurrentTasks(), configuration.threadCount());
+            crawlExecutor.submit(createAsyncWebCrawlerRunnable(sharedState, crawlExecutor, new SharedWebDriver(webDriverPool), new SharedHttpClient(httpClient)));
+            return;
+        }
+        System.out.printf("Starting Crawler with %d threads.%n", configuration.threadCount());
+        for (int i = 0; i < configuration.threadCount(); i++) {
+            crawlExecutor.submit(createWebCrawlerRunnable(sharedState, new SharedWebDriver(webDriverPool), new SharedHttpClient(httpClient)));
+        }
+    }
+
+    protected WebCrawlerRunnable createWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebDriver webDriver, HttpClient httpClient) {
+        return new WebCrawlerRunnable(sharedState, configuration, webDriver, httpClient);
+    }
+
+    protected WebCrawlerRunnable createVirtualThreadWebCrawlerRunnable(WebCrawlerSharedState sharedState, ExecutorService taskExecutor, WebDriver webDriver, HttpClient httpClient) {
+        return new VirtualThreadWebCrawlerRunnable(sharedState, configuration, taskExecutor, webDriver, httpClient);
+    }
+
+    protected WebCrawlerRunnable createAsyncWebCrawlerRunnable(WebCrawlerSharedState sharedState, ExecutorService analysisExecutor, WebDriver webDriver, HttpClient httpClient) {
+        return new AsyncWebCrawlerRunnable(sharedState, configuration, analysisExecutor, webDriver, httpClient);
     }
 
     @Override
@@ -87,6 +263,11 @@ public class WebCrawlerImpl implements WebCrawler {
         return Set.copyOf(crawledLinks);
     }
 
+    @Override
+    public long getCrawledLinkCount() {
+        return counters.crawledLinks().get();
+    }
+
     @Override
     public List<CrawlingError> getErrors() {
         return List.copyOf(crawlingErrors);
@@ -97,6 +278,41 @@ public class WebCrawlerImpl implements WebCrawler {
         completionLatch.await();
     }
 
+    protected void closeWebDriverPool() {
+        System.out.println("Closing browser sessions");
+        webDriverPool.close();
+    }
+
+    protected void closeUrlQueue() {
+        if (urlQueue instanceof AutoCloseable closeableQueue) {
+            try {
+                closeableQueue.close();
+            } catch (Exception e) {
+                System.err.printf("Error while closing crawl queue: %s%n", e.getMessage());
+            }
+        }
+    }
+
+    protected void closeHttpClient() {
+        httpClient.close();
+    }
+
+    protected void closeParseStage() {
+        parseStage.close();
+    }
+
+    protected void closeCrawlCheckpoint() {
+        checkpoint.close();
+    }
+
+    protected void closePageCache() {
+        pageCache.close();
+    }
+
+    protected void closeLinkStatusCache() {
+        linkStatusCache.close();
+    }
+
     protected void shutdownExecutor() {
         System.out.println("Shutting down crawl executor");
         crawlExecutor.shutdown();
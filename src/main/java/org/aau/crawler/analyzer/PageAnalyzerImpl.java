@@ -1,12 +1,11 @@
 package org.aau.crawler.analyzer;
 
 import org.aau.crawler.parser.HtmlParser;
+import org.aau.crawler.parser.PageContent;
 import org.aau.crawler.result.WorkingLink;
 import org.aau.html.Document;
 import org.aau.html.DocumentAdapter;
 
-import java.util.Set;
-
 public class PageAnalyzerImpl implements PageAnalyzer {
 
     private final HtmlParser parser;
@@ -18,8 +17,7 @@ public class PageAnalyzerImpl implements PageAnalyzer {
     @Override
     public WorkingLink analyze(String url, int depth, String html) {
         Document doc = new DocumentAdapter(html, url);
-        Set<String> links = parser.extractLinks(doc);
-        Set<String> headings = parser.extractHeadings(doc);
-        return new WorkingLink(url, depth, headings, links);
+        PageContent content = parser.extractContent(doc);
+        return new WorkingLink(url, depth, content.headings(), content.links());
     }
 }
\ No newline at end of file
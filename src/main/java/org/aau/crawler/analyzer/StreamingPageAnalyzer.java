@@ -0,0 +1,27 @@
+package org.aau.crawler.analyzer;
+
+import org.aau.crawler.parser.PageContent;
+import org.aau.crawler.parser.StreamingHtmlScanner;
+import org.aau.crawler.result.WorkingLink;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+
+public class StreamingPageAnalyzer implements PageAnalyzer {
+
+    @Override
+    public WorkingLink analyze(String url, int depth, String html) {
+        return analyze(url, depth, new StringReader(html == null ? "" : html));
+    }
+
+    public WorkingLink analyze(String url, int depth, Reader html) {
+        try (html) {
+            PageContent content = new StreamingHtmlScanner(url).scan(html);
+            return new WorkingLink(url, depth, content.headings(), content.links());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read page %s".formatted(url), e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.aau.crawler.cache;
+
+import org.aau.crawler.result.WorkingLink;
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+public record CachedPage(CacheValidators validators, String bodyHash, Set<String> headings, Set<String> subLinks) {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    public CachedPage {
+        validators = validators == null ? CacheValidators.NONE : validators;
+        if (bodyHash == null) {
+            throw new IllegalArgumentException("Body hash must not be null");
+        }
+        headings = headings == null ? Set.of() : headings;
+        subLinks = subLinks == null ? Set.of() : subLinks;
+    }
+
+    public static CachedPage of(FetchResult result, WorkingLink link) {
+        return new CachedPage(CacheValidators.of(result), hashOf(result.body()), link.getHeadings(), link.getSubLinks());
+    }
+
+    public boolean matches(FetchResult result) {
+        return result.isNotModified() || bodyHash.equals(hashOf(result.body()));
+    }
+
+    public CachedPage withValidators(CacheValidators validators) {
+        return new CachedPage(validators, bodyHash, headings, subLinks);
+    }
+
+    public WorkingLink toWorkingLink(String url, int depth) {
+        return new WorkingLink(url, depth, headings, subLinks);
+    }
+
+    static String hashOf(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest((value == null ? "" : value).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("%s is not supported".formatted(HASH_ALGORITHM), e);
+        }
+    }
+}
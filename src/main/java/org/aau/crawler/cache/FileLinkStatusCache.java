@@ -0,0 +1,153 @@
+package org.aau.crawler.cache;
+
+import org.aau.config.LinkStatusCacheOptions;
+import org.aau.http.FetchResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FileLinkStatusCache implements LinkStatusCache {
+
+    private static final int CACHE_MAGIC = 0x4C4E4B53;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_STRING_LENGTH = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path file;
+    private final LinkStatusCacheOptions options;
+    private final Clock clock;
+    private final Map<String, LinkStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+
+    public FileLinkStatusCache(LinkStatusCacheOptions options) {
+        this(options, Clock.systemUTC());
+    }
+
+    public FileLinkStatusCache(LinkStatusCacheOptions options, Clock clock) {
+        this.file = options.file();
+        this.options = options;
+        this.clock = clock;
+        load();
+    }
+
+    @Override
+    public Optional<LinkStatus> get(String url) {
+        LinkStatus status = statuses.get(url);
+        if (status == null) {
+            return Optional.empty();
+        }
+        if (status.isExpired(clock.instant())) {
+            statuses.remove(url, status);
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(status);
+    }
+
+    @Override
+    public void record(String url, FetchResult result) {
+        Duration ttl = options.ttlFor(result.statusCode());
+        if (ttl.isZero()) {
+            statuses.remove(url);
+            return;
+        }
+        Instant now = clock.instant();
+        statuses.put(url, new LinkStatus(result.statusCode(), result.unparsedReason(), now, now.plus(ttl)));
+    }
+
+    @Override
+    public void close() {
+        Instant now = clock.instant();
+        statuses.values().removeIf(status -> status.isExpired(now));
+        save();
+        System.out.printf("Link status cache %s: %d statuses reused, %d stored%n", file, hits.get(), statuses.size());
+    }
+
+    private void load() {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != CACHE_MAGIC || input.readInt() != FORMAT_VERSION) {
+                System.err.printf("Ignoring link status cache %s with unknown format%n", file);
+                return;
+            }
+            Instant now = clock.instant();
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                String url = readString(input);
+                int statusCode = input.readInt();
+                String unparsedReason = input.readBoolean() ? readString(input) : null;
+                Instant checkedAt = Instant.ofEpochMilli(input.readLong());
+                Instant expiresAt = Instant.ofEpochMilli(input.readLong());
+                LinkStatus status = new LinkStatus(statusCode, unparsedReason, checkedAt, expiresAt);
+                if (!status.isExpired(now)) {
+                    statuses.put(url, status);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            System.err.printf("Ignoring unreadable link status cache %s: %s%n", file, e.getMessage());
+            statuses.clear();
+        }
+    }
+
+    private void save() {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(CACHE_MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                Map<String, LinkStatus> snapshot = Map.copyOf(statuses);
+                output.writeInt(snapshot.size());
+                for (Map.Entry<String, LinkStatus> entry : snapshot.entrySet()) {
+                    LinkStatus status = entry.getValue();
+                    writeString(output, entry.getKey());
+                    output.writeInt(status.statusCode());
+                    output.writeBoolean(status.isUnparsed());
+                    if (status.isUnparsed()) {
+                        writeString(output, status.unparsedReason());
+                    }
+                    output.writeLong(status.checkedAt().toEpochMilli());
+                    output.writeLong(status.expiresAt().toEpochMilli());
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.printf("Could not save link status cache %s: %s%n", file, e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException("Invalid string length %d in link status cache".formatted(length));
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
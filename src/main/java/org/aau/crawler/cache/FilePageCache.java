@@ -0,0 +1,156 @@
+package org.aau.crawler.cache;
+
+import org.aau.http.CacheValidators;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FilePageCache implements PageCache {
+
+    private static final int CACHE_MAGIC = 0x50474341;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+    private static final String ENTRY_FILE_SUFFIX = ".bin";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+
+    public FilePageCache(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create page cache directory %s".formatted(directory), e);
+        }
+    }
+
+    @Override
+    public Optional<CachedPage> get(String url) {
+        lookups.incrementAndGet();
+        Path entry = entryPath(url);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            if (input.readInt() != CACHE_MAGIC || input.readInt() != FORMAT_VERSION || !url.equals(readString(input))) {
+                return Optional.empty();
+            }
+            CacheValidators validators = new CacheValidators(readNullableString(input), readNullableString(input));
+            String bodyHash = readString(input);
+            Set<String> headings = readStrings(input);
+            Set<String> subLinks = readStrings(input);
+            hits.incrementAndGet();
+            return Optional.of(new CachedPage(validators, bodyHash, headings, subLinks));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            System.err.printf("Ignoring unreadable page cache entry %s for %s: %s%n", entry, url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String url, CachedPage page) {
+        Path entry = entryPath(url);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            tempFile = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), TEMP_FILE_SUFFIX);
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(CACHE_MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                writeString(output, url);
+                writeNullableString(output, page.validators().etag());
+                writeNullableString(output, page.validators().lastModified());
+                writeString(output, page.bodyHash());
+                writeStrings(output, page.headings());
+                writeStrings(output, page.subLinks());
+            }
+            Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            stores.incrementAndGet();
+        } catch (IOException e) {
+            System.err.printf("Could not store page cache entry for %s: %s%n", url, e.getMessage());
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @Override
+    public void close() {
+        System.out.printf("Page cache %s: %d lookups, %d found, %d stored%n", directory, lookups.get(), hits.get(), stores.get());
+    }
+
+    Path entryPath(String url) {
+        String hash = CachedPage.hashOf(url);
+        return directory.resolve(hash.substring(0, 2)).resolve(hash + ENTRY_FILE_SUFFIX);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.printf("Could not delete temporary page cache file %s: %s%n", file, e.getMessage());
+        }
+    }
+
+    private static void writeStrings(DataOutputStream output, Set<String> values) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            writeString(output, value);
+        }
+    }
+
+    private static Set<String> readStrings(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid entry count %d in page cache".formatted(count));
+        }
+        Set<String> values = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            values.add(readString(input));
+        }
+        return values;
+    }
+
+    private static void writeNullableString(DataOutputStream output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            writeString(output, value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream input) throws IOException {
+        return input.readBoolean() ? readString(input) : null;
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_STRING_LENGTH) {
+            throw new IOException("Invalid string length %d in page cache".formatted(length));
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package org.aau.crawler.cache;
+
+import java.time.Instant;
+
+public record LinkStatus(int statusCode, String unparsedReason, Instant checkedAt, Instant expiresAt) {
+
+    public boolean isSuccessful() {
+        return statusCode >= 0 && statusCode < 400;
+    }
+
+    public boolean isUnparsed() {
+        return unparsedReason != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,28 @@
+package org.aau.crawler.cache;
+
+import org.aau.http.FetchResult;
+
+import java.util.Optional;
+
+public interface LinkStatusCache extends AutoCloseable {
+
+    LinkStatusCache NONE = new LinkStatusCache() {
+        @Override
+        public Optional<LinkStatus> get(String url) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void record(String url, FetchResult result) {}
+
+        @Override
+        public void close() {}
+    };
+
+    Optional<LinkStatus> get(String url);
+
+    void record(String url, FetchResult result);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,35 @@
+package org.aau.crawler.cache;
+
+import java.util.Optional;
+
+public interface PageCache extends AutoCloseable {
+
+    PageCache NONE = new PageCache() {
+        @Override
+        public Optional<CachedPage> get(String url) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(String url, CachedPage page) {}
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void close() {}
+    };
+
+    Optional<CachedPage> get(String url);
+
+    void put(String url, CachedPage page);
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    void close();
+}
@@ -0,0 +1,8 @@
+package org.aau.crawler.canonicalizer;
+
+public interface UrlCanonicalizer {
+
+    UrlCanonicalizer IDENTITY = url -> url;
+
+    String canonicalize(String url);
+}
@@ -0,0 +1,172 @@
+package org.aau.crawler.canonicalizer;
+
+import org.aau.config.CanonicalizationOptions;
+import org.aau.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class UrlCanonicalizerImpl implements UrlCanonicalizer {
+
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final String WILDCARD = "*";
+    private static final String HEX_DIGITS = "0123456789ABCDEF";
+
+    private final CanonicalizationOptions options;
+    private final Set<String> ignoredParameters = new HashSet<>();
+    private final List<String> ignoredParameterPrefixes = new ArrayList<>();
+
+    public UrlCanonicalizerImpl(CanonicalizationOptions options) {
+        this.options = options;
+        for (String parameter : options.ignoredQueryParameters()) {
+            String name = parameter.trim().toLowerCase(Locale.ROOT);
+            if (name.endsWith(WILDCARD)) {
+                ignoredParameterPrefixes.add(name.substring(0, name.length() - WILDCARD.length()));
+            } else if (!name.isEmpty()) {
+                ignoredParameters.add(name);
+            }
+        }
+    }
+
+    @Override
+    public String canonicalize(String url) {
+        if (!options.enabled() || StringUtil.isEmpty(url)) {
+            return url;
+        }
+        int schemeEnd = url.indexOf(SCHEME_SEPARATOR);
+        if (schemeEnd <= 0) {
+            return url;
+        }
+        int authorityStart = schemeEnd + SCHEME_SEPARATOR.length();
+        int end = url.indexOf('#');
+        if (end < 0) {
+            end = url.length();
+        } else if (end < authorityStart) {
+            return url;
+        }
+        String scheme = url.substring(0, schemeEnd).toLowerCase(Locale.ROOT);
+        int authorityEnd = authorityStart;
+        while (authorityEnd < end && url.charAt(authorityEnd) != '/' && url.charAt(authorityEnd) != '?') {
+            authorityEnd++;
+        }
+        int queryStart = url.indexOf('?', authorityEnd);
+        int pathEnd = queryStart < 0 || queryStart > end ? end : queryStart;
+
+        StringBuilder canonical = new StringBuilder(end);
+        canonical.append(scheme).append(SCHEME_SEPARATOR);
+        appendAuthority(canonical, scheme, url.substring(authorityStart, authorityEnd));
+        appendPath(canonical, url.substring(authorityEnd, pathEnd));
+        if (pathEnd < end) {
+            appendQuery(canonical, url.substring(pathEnd + 1, end));
+        }
+        return canonical.toString();
+    }
+
+    private void appendAuthority(StringBuilder canonical, String scheme, String authority) {
+        int userInfoEnd = authority.lastIndexOf('@');
+        if (userInfoEnd >= 0) {
+            canonical.append(authority, 0, userInfoEnd + 1);
+        }
+        String hostAndPort = authority.substring(userInfoEnd + 1);
+        int portStart = hostAndPort.lastIndexOf(':');
+        if (portStart < hostAndPort.lastIndexOf(']')) {
+            portStart = -1;
+        }
+        String host = portStart < 0 ? hostAndPort : hostAndPort.substring(0, portStart);
+        String port = portStart < 0 ? "" : hostAndPort.substring(portStart + 1);
+        canonical.append(host.toLowerCase(Locale.ROOT));
+        if (!port.isEmpty() && !isDefaultPort(scheme, port)) {
+            canonical.append(':').append(port);
+        }
+    }
+
+    private void appendPath(StringBuilder canonical, String path) {
+        if (path.isEmpty()) {
+            canonical.append('/');
+            return;
+        }
+        int length = canonical.length();
+        appendNormalizedEncoding(canonical, path);
+        if (options.removeTrailingSlash() && canonical.length() - length > 1 && canonical.charAt(canonical.length() - 1) == '/') {
+            canonical.setLength(canonical.length() - 1);
+        }
+    }
+
+    private void appendQuery(StringBuilder canonical, String query) {
+        List<String> parameters = new ArrayList<>();
+        for (String parameter : query.split("&")) {
+            if (!parameter.isEmpty() && !isIgnoredParameter(parameter)) {
+                parameters.add(parameter);
+            }
+        }
+        if (parameters.isEmpty()) {
+            return;
+        }
+        if (options.sortQueryParameters()) {
+            parameters.sort(Comparator.comparing(UrlCanonicalizerImpl::parameterName));
+        }
+        canonical.append('?');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                canonical.append('&');
+            }
+            appendNormalizedEncoding(canonical, parameters.get(i));
+        }
+    }
+
+    private boolean isIgnoredParameter(String parameter) {
+        if (ignoredParameters.isEmpty() && ignoredParameterPrefixes.isEmpty()) {
+            return false;
+        }
+        String name = parameterName(parameter).toLowerCase(Locale.ROOT);
+        if (ignoredParameters.contains(name)) {
+            return true;
+        }
+        for (String prefix : ignoredParameterPrefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String parameterName(String parameter) {
+        int separator = parameter.indexOf('=');
+        return separator < 0 ? parameter : parameter.substring(0, separator);
+    }
+
+    private static void appendNormalizedEncoding(StringBuilder canonical, String value) {
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c == '%' && i + 2 < value.length() && isHexDigit(value.charAt(i + 1)) && isHexDigit(value.charAt(i + 2))) {
+                int decoded = Character.digit(value.charAt(i + 1), 16) * 16 + Character.digit(value.charAt(i + 2), 16);
+                if (isUnreserved((char) decoded)) {
+                    canonical.append((char) decoded);
+                } else {
+                    canonical.append('%').append(HEX_DIGITS.charAt(decoded >> 4)).append(HEX_DIGITS.charAt(decoded & 0xF));
+                }
+                i += 3;
+            } else {
+                canonical.append(c);
+                i++;
+            }
+        }
+    }
+
+    private static boolean isDefaultPort(String scheme, String port) {
+        return ("http".equals(scheme) && "80".equals(port)) || ("https".equals(scheme) && "443".equals(port));
+    }
+
+    private static boolean isHexDigit(char c) {
+        return Character.digit(c, 16) >= 0 && c < 128;
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+}
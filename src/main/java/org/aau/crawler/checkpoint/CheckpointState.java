@@ -0,0 +1,18 @@
+package org.aau.crawler.checkpoint;
+
+import org.aau.crawler.concurrent.CrawlTask;
+import org.aau.crawler.result.Link;
+
+import java.util.List;
+import java.util.Set;
+
+public record CheckpointState(Set<String> enqueuedUrls, List<CrawlTask> pendingTasks, List<Link> crawledLinks) {
+
+    public static CheckpointState empty() {
+        return new CheckpointState(Set.of(), List.of(), List.of());
+    }
+
+    public boolean isEmpty() {
+        return enqueuedUrls.isEmpty() && pendingTasks.isEmpty() && crawledLinks.isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package org.aau.crawler.checkpoint;
+
+import org.aau.crawler.concurrent.CrawlTask;
+import org.aau.crawler.result.Link;
+
+public interface CrawlCheckpoint extends AutoCloseable {
+
+    CrawlCheckpoint NONE = new CrawlCheckpoint() {
+        @Override
+        public CheckpointState restore() {
+            return CheckpointState.empty();
+        }
+
+        @Override
+        public void taskEnqueued(CrawlTask task) {}
+
+        @Override
+        public void taskCompleted(CrawlTask task) {}
+
+        @Override
+        public void linkCrawled(Link link) {}
+
+        @Override
+        public void close() {}
+    };
+
+    CheckpointState restore();
+
+    void taskEnqueued(CrawlTask task);
+
+    void taskCompleted(CrawlTask task);
+
+    void linkCrawled(Link link);
+
+    @Override
+    void close();
+}
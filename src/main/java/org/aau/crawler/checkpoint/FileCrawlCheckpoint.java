@@ -0,0 +1,558 @@
+package org.aau.crawler.checkpoint;
+
+import org.aau.crawler.concurrent.CrawlTask;
+import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.Link;
+import org.aau.crawler.result.UnparsedLink;
+import org.aau.crawler.result.WorkingLink;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+public class FileCrawlCheckpoint implements CrawlCheckpoint {
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final String SNAPSHOT_TEMP_FILE = "snapshot.tmp";
+    private static final String JOURNAL_FILE_PREFIX = "journal-";
+    private static final String JOURNAL_FILE_SUFFIX = ".bin";
+    private static final int SNAPSHOT_MAGIC = 0x43524B50;
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+    private static final int RECORD_OVERHEAD = Byte.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final int JOURNAL_BUFFER_SIZE = 64 * 1024;
+    private static final long JOURNAL_FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final byte END_OF_SNAPSHOT = 0;
+    private static final byte TASK_ENQUEUED = 1;
+    private static final byte TASK_COMPLETED = 2;
+    private static final byte WORKING_LINK_CRAWLED = 3;
+    private static final byte BROKEN_LINK_CRAWLED = 4;
+    private static final byte UNPARSED_LINK_CRAWLED = 5;
+    private static final byte URL_VISITED = 6;
+
+    private final Path directory;
+    private final boolean resume;
+    private final int snapshotInterval;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final RecordBuffer recordBuffer = new RecordBuffer();
+    private final DataOutputStream recordOutput = new DataOutputStream(recordBuffer);
+    private final CRC32 recordChecksum = new CRC32();
+
+    private long snapshotGeneration;
+    private long snapshotEntries;
+    private long journalGeneration;
+    private long uncompactedRecords;
+    private DataOutputStream journal;
+    private long lastFlushNanos;
+    private Thread compaction;
+    private boolean failed;
+
+    public FileCrawlCheckpoint(Path directory, boolean resume, int snapshotInterval) {
+        this.directory = directory;
+        this.resume = resume;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public CheckpointState restore() {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            RestoredState state = new RestoredState();
+            if (resume) {
+                load(state);
+            } else {
+                deleteCheckpointFiles();
+            }
+            state.crawledLinks.keySet().removeIf(state.pendingTasks::containsKey);
+            journal = openJournal(journalGeneration);
+            System.out.printf("Crawl checkpoint %s: %d enqueued, %d pending, %d crawled%n", directory, state.enqueuedUrls.size(), state.pendingTasks.size(), state.crawledLinks.size());
+            List<CrawlTask> tasks = new ArrayList<>(state.pendingTasks.size());
+            state.pendingTasks.forEach((url, depth) -> tasks.add(new CrawlTask(url, depth)));
+            return new CheckpointState(Set.copyOf(state.enqueuedUrls), tasks, List.copyOf(state.crawledLinks.values()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not restore crawl checkpoint from %s".formatted(directory), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void taskEnqueued(CrawlTask task) {
+        appendRecord(TASK_ENQUEUED, payload -> {
+            writeString(payload, task.url());
+            payload.writeInt(task.depth());
+        });
+    }
+
+    @Override
+    public void taskCompleted(CrawlTask task) {
+        appendRecord(TASK_COMPLETED, payload -> writeString(payload, task.url()));
+    }
+
+    @Override
+    public void linkCrawled(Link link) {
+        appendRecord(recordTypeOf(link), payload -> writeLink(payload, link));
+    }
+
+    @Override
+    public void close() {
+        Thread runningCompaction;
+        lock.lock();
+        try {
+            if (journal == null) {
+                return;
+            }
+            journal.close();
+            journal = null;
+            runningCompaction = compaction;
+        } catch (IOException e) {
+            fail("Could not close crawl checkpoint journal", e);
+            return;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (runningCompaction != null) {
+                runningCompaction.join();
+            }
+        } catch (InterruptedException e) {
+            System.err.printf("Interrupted while waiting for crawl checkpoint compaction in %s%n", directory);
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!failed && (uncompactedRecords > 0 || snapshotGeneration < journalGeneration)) {
+            compact(snapshotGeneration, journalGeneration);
+        }
+    }
+
+    private void appendRecord(byte type, RecordWriter recordWriter) {
+        lock.lock();
+        try {
+            if (failed || journal == null) {
+                return;
+            }
+            recordBuffer.reset();
+            recordWriter.write(recordOutput);
+            recordChecksum.reset();
+            recordChecksum.update(type);
+            recordBuffer.updateChecksum(recordChecksum);
+            journal.writeByte(type);
+            journal.writeInt(recordBuffer.size());
+            recordBuffer.writeTo(journal);
+            journal.writeInt((int) recordChecksum.getValue());
+            if (System.nanoTime() - lastFlushNanos >= JOURNAL_FLUSH_INTERVAL_NANOS) {
+                flushJournal();
+            }
+            if (++uncompactedRecords >= Math.max(snapshotInterval, snapshotEntries) && compaction == null) {
+                startCompaction();
+            }
+        } catch (IOException e) {
+            fail("Could not append to crawl checkpoint journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void flush() {
+        lock.lock();
+        try {
+            if (!failed && journal != null) {
+                flushJournal();
+            }
+        } catch (IOException e) {
+            fail("Could not flush crawl checkpoint journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushJournal() throws IOException {
+        journal.flush();
+        lastFlushNanos = System.nanoTime();
+    }
+
+    private void startCompaction() throws IOException {
+        long firstJournalGeneration = snapshotGeneration;
+        long lastJournalGeneration = journalGeneration;
+        journal.close();
+        journalGeneration++;
+        journal = openJournal(journalGeneration);
+        uncompactedRecords = 0;
+        compaction = Thread.ofPlatform().name("checkpoint-compaction").start(() -> compact(firstJournalGeneration, lastJournalGeneration));
+    }
+
+    private void fail(String message, IOException e) {
+        System.err.printf("%s %s, checkpointing is disabled for this crawl: %s%n", message, directory, e.getMessage());
+        failed = true;
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException closeException) {
+                System.err.printf("Could not close crawl checkpoint journal: %s%n", closeException.getMessage());
+            }
+            journal = null;
+        }
+    }
+
+    private void compact(long firstJournalGeneration, long lastJournalGeneration) {
+        try {
+            long entries;
+            Set<String> completedUrls = new HashSet<>();
+            for (long generation = firstJournalGeneration; generation <= lastJournalGeneration; generation++) {
+                readJournal(journalPath(generation), (type, payload) -> {
+                    if (type == TASK_COMPLETED) {
+                        completedUrls.add(readString(payload));
+                    }
+                });
+            }
+            Path temporarySnapshot = directory.resolve(SNAPSHOT_TEMP_FILE);
+            CRC32 checksum = new CRC32();
+            try (FileOutputStream fileOutput = new FileOutputStream(temporarySnapshot.toFile());
+                 DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(fileOutput, checksum)))) {
+                output.writeInt(SNAPSHOT_MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(lastJournalGeneration + 1);
+                SnapshotWriter snapshotWriter = new SnapshotWriter(output, completedUrls);
+                if (Files.exists(snapshot())) {
+                    readSnapshot(snapshot(), snapshotWriter::copy);
+                }
+                for (long generation = firstJournalGeneration; generation <= lastJournalGeneration; generation++) {
+                    readJournal(journalPath(generation), snapshotWriter::copy);
+                }
+                output.writeByte(END_OF_SNAPSHOT);
+                output.flush();
+                output.writeInt((int) checksum.getValue());
+                output.flush();
+                fileOutput.getFD().sync();
+                entries = snapshotWriter.entries;
+            }
+            Files.move(temporarySnapshot, snapshot(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            compactionFinished(lastJournalGeneration + 1, entries);
+        } catch (IOException e) {
+            System.err.printf("Could not compact crawl checkpoint %s, keeping its journals: %s%n", directory, e.getMessage());
+            compactionFinished(snapshotGeneration, snapshotEntries);
+            return;
+        }
+        try {
+            deleteJournalsBefore(lastJournalGeneration + 1);
+        } catch (IOException e) {
+            System.err.printf("Could not delete compacted crawl checkpoint journals in %s: %s%n", directory, e.getMessage());
+        }
+    }
+
+    private void compactionFinished(long generation, long entries) {
+        lock.lock();
+        try {
+            snapshotGeneration = generation;
+            snapshotEntries = entries;
+            compaction = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load(RestoredState state) throws IOException {
+        Path snapshot = snapshot();
+        if (Files.exists(snapshot)) {
+            snapshotGeneration = readSnapshot(snapshot, state::apply);
+            snapshotEntries = state.enqueuedUrls.size() + state.crawledLinks.size();
+        }
+        journalGeneration = snapshotGeneration;
+        deleteJournalsBefore(snapshotGeneration);
+        for (long generation : journalGenerations()) {
+            uncompactedRecords += replayJournal(journalPath(generation), state);
+            journalGeneration = generation;
+        }
+    }
+
+    private long readSnapshot(Path snapshot, RecordHandler handler) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (DataInputStream input = new DataInputStream(new CheckedInputStream(new BufferedInputStream(Files.newInputStream(snapshot)), checksum))) {
+            if (input.readInt() != SNAPSHOT_MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported checkpoint snapshot format: %s".formatted(snapshot));
+            }
+            long generation = input.readLong();
+            byte type;
+            while ((type = input.readByte()) != END_OF_SNAPSHOT) {
+                handler.handle(type, input);
+            }
+            int expectedChecksum = (int) checksum.getValue();
+            if (input.readInt() != expectedChecksum) {
+                throw new IOException("Checkpoint snapshot is corrupted: %s".formatted(snapshot));
+            }
+            return generation;
+        }
+    }
+
+    private int replayJournal(Path journalPath, RestoredState state) throws IOException {
+        long validLength = 0;
+        int replayedRecords = 0;
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            byte[] payload;
+            while ((payload = readRecordPayload(input)) != null) {
+                byte type = payload[payload.length - 1];
+                state.apply(type, new DataInputStream(new ByteArrayInputStream(payload, 0, payload.length - 1)));
+                validLength += RECORD_OVERHEAD + payload.length - 1;
+                replayedRecords++;
+            }
+        } catch (EOFException e) {
+            System.err.printf("Crawl checkpoint journal %s ends with an incomplete record%n", journalPath);
+        }
+        if (validLength < Files.size(journalPath)) {
+            System.err.printf("Truncating crawl checkpoint journal %s to %d bytes%n", journalPath, validLength);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        return replayedRecords;
+    }
+
+    private static void readJournal(Path journalPath, RecordHandler handler) throws IOException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            byte[] payload;
+            while ((payload = readRecordPayload(input)) != null) {
+                handler.handle(payload[payload.length - 1], new DataInputStream(new ByteArrayInputStream(payload, 0, payload.length - 1)));
+            }
+        } catch (EOFException e) {
+            System.err.printf("Crawl checkpoint journal %s ends with an incomplete record%n", journalPath);
+        }
+    }
+
+    private static byte[] readRecordPayload(DataInputStream input) throws IOException {
+        int type = input.read();
+        if (type < 0) {
+            return null;
+        }
+        int length = input.readInt();
+        if (length < 0 || length > MAX_RECORD_LENGTH) {
+            return null;
+        }
+        byte[] payload = new byte[length + 1];
+        input.readFully(payload, 0, length);
+        int storedChecksum = input.readInt();
+        CRC32 checksum = new CRC32();
+        checksum.update(type);
+        checksum.update(payload, 0, length);
+        if (storedChecksum != (int) checksum.getValue()) {
+            return null;
+        }
+        payload[length] = (byte) type;
+        return payload;
+    }
+
+    private static byte recordTypeOf(Link link) {
+        if (link instanceof WorkingLink) {
+            return WORKING_LINK_CRAWLED;
+        }
+        return link instanceof UnparsedLink ? UNPARSED_LINK_CRAWLED : BROKEN_LINK_CRAWLED;
+    }
+
+    private static boolean isLinkRecord(byte type) {
+        return type == WORKING_LINK_CRAWLED || type == BROKEN_LINK_CRAWLED || type == UNPARSED_LINK_CRAWLED;
+    }
+
+    private static void writeLink(DataOutputStream output, Link link) throws IOException {
+        writeString(output, link.getUrl());
+        output.writeInt(link.getDepth());
+        if (link instanceof WorkingLink workingLink) {
+            Set<String> headings = workingLink.getHeadings();
+            output.writeInt(headings.size());
+            for (String heading : headings) {
+                writeString(output, heading);
+            }
+        } else if (link instanceof UnparsedLink unparsedLink) {
+            writeString(output, unparsedLink.getReason());
+        }
+    }
+
+    private static Link readLink(byte type, DataInputStream input) throws IOException {
+        String url = readString(input);
+        int depth = input.readInt();
+        if (type == BROKEN_LINK_CRAWLED) {
+            return new BrokenLink(url, depth);
+        }
+        if (type == UNPARSED_LINK_CRAWLED) {
+            return new UnparsedLink(url, depth, readString(input));
+        }
+        if (type != WORKING_LINK_CRAWLED) {
+            throw new IOException("Unknown checkpoint link type %d".formatted(type));
+        }
+        int headingCount = input.readInt();
+        Set<String> headings = new LinkedHashSet<>();
+        for (int i = 0; i < headingCount; i++) {
+            headings.add(readString(input));
+        }
+        return new WorkingLink(url, depth, headings, Set.of());
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_RECORD_LENGTH) {
+            throw new IOException("Invalid string length %d in crawl checkpoint".formatted(length));
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private DataOutputStream openJournal(long generation) throws IOException {
+        lastFlushNanos = System.nanoTime();
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalPath(generation).toFile(), true), JOURNAL_BUFFER_SIZE));
+    }
+
+    private Path snapshot() {
+        return directory.resolve(SNAPSHOT_FILE);
+    }
+
+    private Path journalPath(long generation) {
+        return directory.resolve(JOURNAL_FILE_PREFIX + generation + JOURNAL_FILE_SUFFIX);
+    }
+
+    private List<Long> journalGenerations() throws IOException {
+        List<Long> generations = new ArrayList<>();
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(directory, JOURNAL_FILE_PREFIX + "*" + JOURNAL_FILE_SUFFIX)) {
+            for (Path journalFile : journals) {
+                String name = journalFile.getFileName().toString();
+                String journalFileGeneration = name.substring(JOURNAL_FILE_PREFIX.length(), name.length() - JOURNAL_FILE_SUFFIX.length());
+                try {
+                    generations.add(Long.parseLong(journalFileGeneration));
+                } catch (NumberFormatException e) {
+                    System.err.printf("Ignoring unexpected file in checkpoint directory: %s%n", journalFile);
+                }
+            }
+        }
+        generations.sort(null);
+        return generations;
+    }
+
+    private void deleteJournalsBefore(long generation) throws IOException {
+        for (long journalFileGeneration : journalGenerations()) {
+            if (journalFileGeneration < generation) {
+                Files.delete(journalPath(journalFileGeneration));
+            }
+        }
+    }
+
+    private void deleteCheckpointFiles() throws IOException {
+        deleteJournalsBefore(Long.MAX_VALUE);
+        Files.deleteIfExists(snapshot());
+        Files.deleteIfExists(directory.resolve(SNAPSHOT_TEMP_FILE));
+    }
+
+    private static final class RestoredState {
+
+        private final Set<String> enqueuedUrls = new HashSet<>();
+        private final Map<String, Integer> pendingTasks = new LinkedHashMap<>();
+        private final Map<String, Link> crawledLinks = new LinkedHashMap<>();
+
+        private void apply(byte type, DataInputStream payload) throws IOException {
+            switch (type) {
+                case TASK_ENQUEUED -> {
+                    String url = readString(payload);
+                    enqueuedUrls.add(url);
+                    pendingTasks.put(url, payload.readInt());
+                }
+                case TASK_COMPLETED -> pendingTasks.remove(readString(payload));
+                case URL_VISITED -> enqueuedUrls.add(readString(payload));
+                case WORKING_LINK_CRAWLED, BROKEN_LINK_CRAWLED, UNPARSED_LINK_CRAWLED -> {
+                    Link link = readLink(type, payload);
+                    crawledLinks.put(link.getUrl(), link);
+                }
+                default -> throw new IOException("Unknown checkpoint record type %d".formatted(type));
+            }
+        }
+    }
+
+    private static final class SnapshotWriter {
+
+        private final DataOutputStream output;
+        private final Set<String> completedUrls;
+        private long entries;
+
+        private SnapshotWriter(DataOutputStream output, Set<String> completedUrls) {
+            this.output = output;
+            this.completedUrls = completedUrls;
+        }
+
+        private void copy(byte type, DataInputStream payload) throws IOException {
+            if (type == TASK_ENQUEUED) {
+                String url = readString(payload);
+                int depth = payload.readInt();
+                if (completedUrls.contains(url)) {
+                    output.writeByte(URL_VISITED);
+                    writeString(output, url);
+                } else {
+                    output.writeByte(TASK_ENQUEUED);
+                    writeString(output, url);
+                    output.writeInt(depth);
+                }
+            } else if (type == URL_VISITED) {
+                output.writeByte(URL_VISITED);
+                writeString(output, readString(payload));
+            } else if (isLinkRecord(type)) {
+                output.writeByte(type);
+                writeLink(output, readLink(type, payload));
+            } else if (type == TASK_COMPLETED) {
+                readString(payload);
+                return;
+            } else {
+                throw new IOException("Unknown checkpoint record type %d".formatted(type));
+            }
+            entries++;
+        }
+    }
+
+    private static final class RecordBuffer extends ByteArrayOutputStream {
+
+        private void updateChecksum(CRC32 checksum) {
+            checksum.update(buf, 0, count);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream payload) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void handle(byte type, DataInputStream payload) throws IOException;
+    }
+}
@@ -0,0 +1,6 @@
+package org.aau.crawler.client;
+
+public interface RenderingHeuristic {
+
+    boolean requiresRendering(String html);
+}
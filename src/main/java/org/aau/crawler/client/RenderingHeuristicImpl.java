@@ -0,0 +1,99 @@
+package org.aau.crawler.client;
+
+import org.aau.util.StringUtil;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class RenderingHeuristicImpl implements RenderingHeuristic {
+
+    private static final List<String> MEDIA_TAGS = List.of("img", "picture", "svg", "video", "audio", "canvas", "iframe", "object", "embed");
+    private static final List<String> SKIPPED_ELEMENTS = List.of("script", "style");
+
+    private final Pattern markers;
+
+    public RenderingHeuristicImpl(Set<String> renderingMarkers) {
+        this.markers = renderingMarkers.isEmpty() ? null : Pattern.compile(
+                renderingMarkers.stream().map(Pattern::quote).collect(Collectors.joining("|")),
+                Pattern.CASE_INSENSITIVE);
+    }
+
+    @Override
+    public boolean requiresRendering(String html) {
+        if (StringUtil.isEmpty(html)) {
+            return true;
+        }
+        if (markers != null && markers.matcher(html).find()) {
+            return true;
+        }
+        return hasEmptyBody(html);
+    }
+
+    private boolean hasEmptyBody(String html) {
+        int body = indexOfTag(html, "body", 0);
+        int position = body < 0 ? 0 : skipPast(html, ">", body);
+        while (position < html.length()) {
+            char c = html.charAt(position);
+            if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c != '<') {
+                return false;
+            } else if (html.startsWith("<!--", position)) {
+                position = skipPast(html, "-->", position);
+            } else if (isTag(html, position, "/body")) {
+                return true;
+            } else if (matchingTag(html, position, MEDIA_TAGS) != null) {
+                return false;
+            } else {
+                position = skipTag(html, position);
+            }
+        }
+        return true;
+    }
+
+    private static int skipTag(String html, int position) {
+        String skippedElement = matchingTag(html, position, SKIPPED_ELEMENTS);
+        if (skippedElement == null) {
+            return skipPast(html, ">", position);
+        }
+        int end = indexOfTag(html, "/" + skippedElement, position);
+        return end < 0 ? html.length() : skipPast(html, ">", end);
+    }
+
+    private static String matchingTag(String html, int position, List<String> names) {
+        for (String name : names) {
+            if (isTag(html, position, name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isTag(String html, int position, String name) {
+        int end = position + 1 + name.length();
+        if (html.charAt(position) != '<' || !html.regionMatches(true, position + 1, name, 0, name.length())) {
+            return false;
+        }
+        if (end >= html.length()) {
+            return true;
+        }
+        char next = html.charAt(end);
+        return next == '>' || next == '/' || Character.isWhitespace(next);
+    }
+
+    private static int indexOfTag(String html, String name, int from) {
+        for (int position = html.indexOf('<', from); position >= 0; position = html.indexOf('<', position + 1)) {
+            if (isTag(html, position, name)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipPast(String html, String terminator, int from) {
+        int end = html.indexOf(terminator, from);
+        return end < 0 ? html.length() : end + terminator.length();
+    }
+}
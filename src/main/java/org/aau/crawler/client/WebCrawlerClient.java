@@ -1,7 +1,36 @@
 package org.aau.crawler.client;
 
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
+
+import java.util.concurrent.CompletableFuture;
+
 public interface WebCrawlerClient extends AutoCloseable {
     boolean isPageAvailable(String url);
 
+    FetchResult checkLink(String url);
+
+    FetchResult fetch(String url);
+
+    default FetchResult fetch(String url, CacheValidators validators) {
+        return fetch(url);
+    }
+
+    default CompletableFuture<FetchResult> fetchAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(fetch(url));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    default CompletableFuture<FetchResult> fetchAsync(String url, CacheValidators validators) {
+        try {
+            return CompletableFuture.completedFuture(fetch(url, validators));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     String getPageContent(String url) throws RuntimeException;
 }
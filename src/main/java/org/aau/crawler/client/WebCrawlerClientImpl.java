@@ -1,18 +1,48 @@
 package org.aau.crawler.client;
 
+import org.aau.config.FetchMode;
+import org.aau.config.FetchOptions;
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
 import org.aau.http.HttpClient;
 import org.aau.http.HttpClientImpl;
+import org.aau.web.LazyWebDriver;
 import org.aau.web.WebDriver;
 import org.aau.web.WebDriverImpl;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public class WebCrawlerClientImpl implements WebCrawlerClient {
 
+    private static final Executor RENDERING_EXECUTOR = task -> Thread.ofVirtual().name("page-renderer").start(task);
+
     final WebDriver webDriver;
     final HttpClient httpClient;
+    final FetchMode fetchMode;
+    final RenderingHeuristic renderingHeuristic;
 
-    public WebCrawlerClientImpl(WebDriver webDriver, HttpClient httpClient) {
+    public WebCrawlerClientImpl(WebDriver webDriver, HttpClient httpClient, FetchMode fetchMode, RenderingHeuristic renderingHeuristic) {
         this.webDriver = webDriver;
         this.httpClient = httpClient;
+        this.fetchMode = fetchMode;
+        this.renderingHeuristic = renderingHeuristic;
+    }
+
+    public WebCrawlerClientImpl(WebDriver webDriver, HttpClient httpClient) {
+        this(webDriver, httpClient, FetchMode.BROWSER, createDefaultRenderingHeuristic(FetchOptions.defaults()));
+    }
+
+    public WebCrawlerClientImpl(FetchOptions fetchOptions) {
+        this(fetchOptions, createDefaultWebDriver());
+    }
+
+    public WebCrawlerClientImpl(FetchOptions fetchOptions, WebDriver webDriver) {
+        this(fetchOptions, webDriver, createDefaultHttpClient());
+    }
+
+    public WebCrawlerClientImpl(FetchOptions fetchOptions, WebDriver webDriver, HttpClient httpClient) {
+        this(webDriver, httpClient, fetchOptions.mode(), createDefaultRenderingHeuristic(fetchOptions));
     }
 
     public WebCrawlerClientImpl() {
@@ -24,20 +54,88 @@ public class WebCrawlerClientImpl implements WebCrawlerClient {
     }
 
     private static WebDriver createDefaultWebDriver() {
-        return new WebDriverImpl();
+        return new LazyWebDriver(WebDriverImpl::new);
     }
 
     private static HttpClient createDefaultHttpClient() {
         return new HttpClientImpl();
     }
 
+    private static RenderingHeuristic createDefaultRenderingHeuristic(FetchOptions fetchOptions) {
+        return new RenderingHeuristicImpl(fetchOptions.renderingMarkers());
+    }
+
     @Override
     public boolean isPageAvailable(String url) {
         return httpClient.isPageAvailable(url);
     }
 
+    @Override
+    public FetchResult checkLink(String url) {
+        System.out.printf("Checking link: url=%s \n", url);
+        return httpClient.checkLink(url);
+    }
+
+    @Override
+    public FetchResult fetch(String url) {
+        return fetch(url, CacheValidators.NONE);
+    }
+
+    @Override
+    public FetchResult fetch(String url, CacheValidators validators) {
+        System.out.printf("Fetching page: url=%s \n", url);
+        FetchResult result = validators.isEmpty() ? httpClient.fetch(url) : httpClient.fetch(url, validators);
+        if (!needsRendering(result)) {
+            return result;
+        }
+        return result.withBody(renderPageContent(url));
+    }
+
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(String url) {
+        return fetchAsync(url, CacheValidators.NONE);
+    }
+
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(String url, CacheValidators validators) {
+        System.out.printf("Fetching page asynchronously: url=%s \n", url);
+        CompletableFuture<FetchResult> fetch = validators.isEmpty() ? httpClient.fetchAsync(url) : httpClient.fetchAsync(url, validators);
+        return fetch.thenCompose(result -> {
+            if (!needsRendering(result)) {
+                return CompletableFuture.completedFuture(result);
+            }
+            return CompletableFuture.supplyAsync(() -> result.withBody(renderPageContent(url)), RENDERING_EXECUTOR);
+        });
+    }
+
+    private boolean needsRendering(FetchResult result) {
+        return result.isSuccessful() && !result.isUnparsed() && !result.isNotModified() && requiresRendering(result);
+    }
+
+    private boolean requiresRendering(FetchResult result) {
+        return switch (fetchMode) {
+            case BROWSER -> true;
+            case HTTP -> false;
+            case AUTO -> renderingHeuristic.requiresRendering(result.body());
+        };
+    }
+
     @Override
     public String getPageContent(String url) throws RuntimeException {
+        if (fetchMode == FetchMode.BROWSER) {
+            return renderPageContent(url);
+        }
+        FetchResult result = fetch(url);
+        if (!result.isSuccessful()) {
+            throw new IllegalStateException("Unexpected status code %d for %s".formatted(result.statusCode(), url));
+        }
+        if (result.isUnparsed()) {
+            throw new IllegalStateException("Page %s was not downloaded: %s".formatted(url, result.unparsedReason()));
+        }
+        return result.body();
+    }
+
+    private String renderPageContent(String url) {
         System.out.printf("Loading page content: url=%s \n", url);
         return webDriver.getPageContent(url);
     }
@@ -0,0 +1,70 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.WebCrawlerConfiguration;
+import org.aau.http.FetchResult;
+import org.aau.http.HttpClient;
+import org.aau.web.WebDriver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+public class AsyncWebCrawlerRunnable extends DispatchingWebCrawlerRunnable {
+
+    private final Executor analysisExecutor;
+
+    public AsyncWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration, Executor analysisExecutor) {
+        super(sharedState, configuration);
+        this.analysisExecutor = analysisExecutor;
+    }
+
+    public AsyncWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration, Executor analysisExecutor, WebDriver webDriver, HttpClient httpClient) {
+        super(sharedState, configuration, webDriver, httpClient);
+        this.analysisExecutor = analysisExecutor;
+    }
+
+    @Override
+    protected void dispatch(CrawlTask task) {
+        if (!shouldCrawl(task.url(), task.depth())) {
+            System.out.printf("WebCrawler dispatcher %s skipping link %s %n", Thread.currentThread().getName(), task.url());
+            releaseSlot();
+            sharedState.completeTask(task);
+            return;
+        }
+        sharedState.incrementActiveThreads();
+        CompletableFuture<Void> fetchStarted = new CompletableFuture<>();
+        fetchStarted.thenCompose(ignored -> fetchLinkAsync(task.url(), task.depth(), this::analyzeAsync)).whenComplete((result, failure) -> {
+            if (failure != null) {
+                reportError("Unexpected error while completing the fetch of %s".formatted(task.url()), failure);
+            }
+            completeFetch(task, failure == null ? result : null);
+        });
+        fetchStarted.complete(null);
+    }
+
+    private void analyzeAsync(Runnable analysis) {
+        try {
+            analysisExecutor.execute(analysis);
+        } catch (RejectedExecutionException e) {
+            System.err.printf("WebCrawler dispatcher could not schedule an analysis, running it directly%n");
+            analysis.run();
+        }
+    }
+
+    protected void completeFetch(CrawlTask task, FetchResult result) {
+        boolean handedOff = false;
+        try {
+            if (result != null && sharedState.usesParseStage()) {
+                handedOff = handOff(task, result);
+            } else if (result != null) {
+                analyzeLink(task.url(), task.depth(), result);
+            }
+        } finally {
+            sharedState.decrementActiveThreads();
+            releaseSlot();
+            if (!handedOff) {
+                sharedState.completeTask(task);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.aau.crawler.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class BoundedParseStage implements ParseStage {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    private final ExecutorService parseExecutor;
+    private final Semaphore capacity;
+
+    public BoundedParseStage(int parseThreads, int queueCapacity) {
+        if (parseThreads < 1) {
+            throw new IllegalArgumentException("Parse threads cannot be less than 1");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("Parse queue capacity cannot be negative");
+        }
+        this.parseExecutor = Executors.newFixedThreadPool(parseThreads, Thread.ofPlatform().name("parse-worker-", 0).factory());
+        this.capacity = new Semaphore(parseThreads + queueCapacity);
+    }
+
+    @Override
+    public void submit(Runnable job) throws InterruptedException {
+        capacity.acquire();
+        try {
+            parseExecutor.execute(() -> {
+                try {
+                    job.run();
+                } finally {
+                    capacity.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        parseExecutor.shutdown();
+        try {
+            if (!parseExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                parseExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            System.err.printf("Interrupted while shutting down parse stage: %s%n", e.getMessage());
+            parseExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int availableCapacity() {
+        return capacity.availablePermits();
+    }
+}
@@ -0,0 +1,36 @@
+package org.aau.crawler.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class CrawlCounters {
+
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final AtomicInteger waitingWorkers = new AtomicInteger();
+    private final AtomicLong suppressedDuplicates = new AtomicLong();
+    private final AtomicLong crawledLinks;
+
+    public CrawlCounters() {
+        this(0);
+    }
+
+    public CrawlCounters(long crawledLinks) {
+        this.crawledLinks = new AtomicLong(crawledLinks);
+    }
+
+    public AtomicInteger pendingTasks() {
+        return pendingTasks;
+    }
+
+    public AtomicInteger waitingWorkers() {
+        return waitingWorkers;
+    }
+
+    public AtomicLong suppressedDuplicates() {
+        return suppressedDuplicates;
+    }
+
+    public AtomicLong crawledLinks() {
+        return crawledLinks;
+    }
+}
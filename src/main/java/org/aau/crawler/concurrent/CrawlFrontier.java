@@ -0,0 +1,17 @@
+package org.aau.crawler.concurrent;
+
+import java.util.concurrent.BlockingQueue;
+
+public interface CrawlFrontier extends BlockingQueue<CrawlTask> {
+
+    void release(CrawlTask task);
+
+    default boolean hasReadyTask() {
+        return !isEmpty();
+    }
+
+    default boolean isHostReady(String host) {
+        return true;
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.crawler.cache.LinkStatusCache;
+import org.aau.crawler.cache.PageCache;
+import org.aau.crawler.checkpoint.CrawlCheckpoint;
+import org.aau.crawler.result.CrawlResultSink;
+
+public record CrawlServices(
+        CrawlResultSink resultSink,
+        CrawlCheckpoint checkpoint,
+        ParseStage parseStage,
+        PageCache pageCache,
+        LinkStatusCache linkStatusCache) {
+
+    public static final CrawlServices NONE = new CrawlServices(CrawlResultSink.NONE, CrawlCheckpoint.NONE, ParseStage.INLINE, PageCache.NONE, LinkStatusCache.NONE);
+
+    public CrawlServices withResultSink(CrawlResultSink resultSink) {
+        return new CrawlServices(resultSink, checkpoint, parseStage, pageCache, linkStatusCache);
+    }
+
+    public CrawlServices withCheckpoint(CrawlCheckpoint checkpoint) {
+        return new CrawlServices(resultSink, checkpoint, parseStage, pageCache, linkStatusCache);
+    }
+
+    public CrawlServices withParseStage(ParseStage parseStage) {
+        return new CrawlServices(resultSink, checkpoint, parseStage, pageCache, linkStatusCache);
+    }
+
+    public CrawlServices withPageCache(PageCache pageCache) {
+        return new CrawlServices(resultSink, checkpoint, parseStage, pageCache, linkStatusCache);
+    }
+
+    public CrawlServices withLinkStatusCache(LinkStatusCache linkStatusCache) {
+        return new CrawlServices(resultSink, checkpoint, parseStage, pageCache, linkStatusCache);
+    }
+}
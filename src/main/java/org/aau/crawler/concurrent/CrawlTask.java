@@ -1,4 +1,6 @@
 package org.aau.crawler.concurrent;
 
 public record CrawlTask(String url, int depth) {
+
+    static final CrawlTask END_OF_CRAWL = new CrawlTask("", -1);
 }
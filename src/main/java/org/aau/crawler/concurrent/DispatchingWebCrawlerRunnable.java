@@ -0,0 +1,69 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.WebCrawlerConfiguration;
+import org.aau.http.HttpClient;
+import org.aau.http.HttpClientImpl;
+import org.aau.web.LazyWebDriver;
+import org.aau.web.WebDriver;
+import org.aau.web.WebDriverImpl;
+
+import java.util.concurrent.Semaphore;
+
+public abstract class DispatchingWebCrawlerRunnable extends WebCrawlerRunnable {
+
+    private final Semaphore inFlightLimit;
+
+    protected DispatchingWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration) {
+        this(sharedState, configuration, new LazyWebDriver(WebDriverImpl::new), new HttpClientImpl(configuration.httpClientOptions()));
+    }
+
+    protected DispatchingWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration, WebDriver webDriver, HttpClient httpClient) {
+        super(sharedState, configuration, webDriver, httpClient);
+        this.inFlightLimit = new Semaphore(configuration.executorOptions().maxConcurrentTasks());
+    }
+
+    @Override
+    protected void processCrawlTasks() {
+        while (!sharedState.isCrawlComplete()) {
+            try {
+                acquireSlot();
+                dispatchNextTask();
+            } catch (InterruptedException e) {
+                System.err.printf("Web Crawler dispatcher %s was interrupted while waiting for a task: %s%n", Thread.currentThread().getName(), e.getMessage());
+                reportError("Web Crawler dispatcher %s was interrupted while waiting for a task".formatted(Thread.currentThread().getName()), e);
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        System.out.printf("WebCrawler dispatcher %s: No further tasks, finishing job...%n", Thread.currentThread().getName());
+    }
+
+    private void dispatchNextTask() throws InterruptedException {
+        CrawlTask task;
+        try {
+            task = sharedState.getNextTask();
+        } catch (InterruptedException e) {
+            releaseSlot();
+            throw e;
+        }
+        if (task == null) {
+            releaseSlot();
+            return;
+        }
+        dispatch(task);
+    }
+
+    protected void acquireSlot() throws InterruptedException {
+        inFlightLimit.acquire();
+    }
+
+    protected void releaseSlot() {
+        inFlightLimit.release();
+    }
+
+    protected abstract void dispatch(CrawlTask task);
+
+    int availablePermits() {
+        return inFlightLimit.availablePermits();
+    }
+}
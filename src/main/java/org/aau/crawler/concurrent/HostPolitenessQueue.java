@@ -0,0 +1,278 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.PolitenessOptions;
+import org.aau.util.UrlUtil;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class HostPolitenessQueue extends AbstractQueue<CrawlTask> implements CrawlFrontier {
+
+    private final int maxConcurrentRequestsPerHost;
+    private final long minimumDelayNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition hostsChanged = lock.newCondition();
+    private final Map<String, HostQueue> hostQueues = new HashMap<>();
+    private final ArrayDeque<HostQueue> hostRotation = new ArrayDeque<>();
+    private final Set<CrawlTask> leasedTasks = new HashSet<>();
+    private int size;
+    private int endOfCrawlMarkers;
+
+    public HostPolitenessQueue(PolitenessOptions politenessOptions) {
+        this.maxConcurrentRequestsPerHost = politenessOptions.maxConcurrentRequestsPerHost();
+        this.minimumDelayNanos = politenessOptions.minimumDelayPerHost().toNanos();
+    }
+
+    @Override
+    public boolean offer(CrawlTask task) {
+        if (task == null) {
+            throw new NullPointerException("Crawl task must not be null");
+        }
+        lock.lock();
+        try {
+            if (task == CrawlTask.END_OF_CRAWL) {
+                endOfCrawlMarkers++;
+                hostsChanged.signalAll();
+                return true;
+            }
+            String host = UrlUtil.getHost(task.url());
+            HostQueue hostQueue = hostQueues.computeIfAbsent(host, HostQueue::new);
+            if (hostQueue.tasks.isEmpty()) {
+                hostRotation.addLast(hostQueue);
+            }
+            hostQueue.tasks.addLast(task);
+            size++;
+            hostsChanged.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(CrawlTask task) {
+        offer(task);
+    }
+
+    @Override
+    public boolean offer(CrawlTask task, long timeout, TimeUnit unit) {
+        return offer(task);
+    }
+
+    @Override
+    public CrawlTask poll() {
+        lock.lock();
+        try {
+            return pollReadyTask(System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CrawlTask poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                CrawlTask task = pollReadyTask(now);
+                if (task != null) {
+                    return task;
+                }
+                if (remainingNanos <= 0) {
+                    return null;
+                }
+                long waitNanos = Math.min(remainingNanos, nanosUntilNextHostIsReady(now));
+                long waited = waitNanos - hostsChanged.awaitNanos(waitNanos);
+                remainingNanos -= Math.max(waited, 0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CrawlTask take() throws InterruptedException {
+        CrawlTask task;
+        do {
+            task = poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } while (task == null);
+        return task;
+    }
+
+    @Override
+    public void release(CrawlTask task) {
+        lock.lock();
+        try {
+            if (!leasedTasks.remove(task)) {
+                return;
+            }
+            HostQueue hostQueue = hostQueues.get(UrlUtil.getHost(task.url()));
+            if (hostQueue != null) {
+                hostQueue.activeRequests--;
+                hostsChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CrawlTask pollReadyTask(long now) {
+        if (endOfCrawlMarkers > 0) {
+            endOfCrawlMarkers--;
+            return CrawlTask.END_OF_CRAWL;
+        }
+        for (int i = hostRotation.size(); i > 0; i--) {
+            HostQueue hostQueue = hostRotation.pollFirst();
+            if (!isReady(hostQueue, now)) {
+                hostRotation.addLast(hostQueue);
+                continue;
+            }
+            CrawlTask task = hostQueue.tasks.pollFirst();
+            if (!hostQueue.tasks.isEmpty()) {
+                hostRotation.addLast(hostQueue);
+            }
+            hostQueue.activeRequests++;
+            hostQueue.nextRequestNanos = now + minimumDelayNanos;
+            leasedTasks.add(task);
+            size--;
+            return task;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean hasReadyTask() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            for (HostQueue hostQueue : hostRotation) {
+                if (isReady(hostQueue, now)) {
+                    return true;
+                }
+            }
+            return endOfCrawlMarkers > 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isHostReady(String host) {
+        lock.lock();
+        try {
+            HostQueue hostQueue = hostQueues.get(host);
+            return hostQueue == null || isReady(hostQueue, System.nanoTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isReady(HostQueue hostQueue, long now) {
+        return hostQueue.activeRequests < maxConcurrentRequestsPerHost && now - hostQueue.nextRequestNanos >= 0;
+    }
+
+    private long nanosUntilNextHostIsReady(long now) {
+        long waitNanos = Long.MAX_VALUE;
+        for (HostQueue hostQueue : hostRotation) {
+            if (hostQueue.activeRequests < maxConcurrentRequestsPerHost) {
+                waitNanos = Math.min(waitNanos, Math.max(hostQueue.nextRequestNanos - now, 0));
+            }
+        }
+        return waitNanos;
+    }
+
+    int activeRequests(String host) {
+        lock.lock();
+        try {
+            HostQueue hostQueue = hostQueues.get(host);
+            return hostQueue == null ? 0 : hostQueue.activeRequests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CrawlTask peek() {
+        lock.lock();
+        try {
+            HostQueue hostQueue = hostRotation.peekFirst();
+            return hostQueue == null ? null : hostQueue.tasks.peekFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterator<CrawlTask> iterator() {
+        lock.lock();
+        try {
+            List<CrawlTask> snapshot = new ArrayList<>(size);
+            hostRotation.forEach(hostQueue -> snapshot.addAll(hostQueue.tasks));
+            return List.copyOf(snapshot).iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super CrawlTask> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super CrawlTask> collection, int maxElements) {
+        int drained = 0;
+        CrawlTask task;
+        while (drained < maxElements && (task = poll()) != null) {
+            collection.add(task);
+            drained++;
+        }
+        return drained;
+    }
+
+    private static final class HostQueue {
+
+        private final String host;
+        private final ArrayDeque<CrawlTask> tasks = new ArrayDeque<>();
+        private int activeRequests;
+        private long nextRequestNanos;
+
+        private HostQueue(String host) {
+            this.host = host;
+            this.nextRequestNanos = System.nanoTime();
+        }
+
+        @Override
+        public String toString() {
+            return "%s(queued = %d, active = %d)".formatted(host, tasks.size(), activeRequests);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.aau.crawler.concurrent;
+
+public interface ParseStage extends AutoCloseable {
+
+    ParseStage INLINE = new ParseStage() {
+        @Override
+        public void submit(Runnable job) {
+            job.run();
+        }
+
+        @Override
+        public void close() {}
+    };
+
+    void submit(Runnable job) throws InterruptedException;
+
+    @Override
+    void close();
+}
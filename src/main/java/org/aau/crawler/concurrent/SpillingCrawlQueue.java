@@ -0,0 +1,406 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.util.UrlUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SpillingCrawlQueue extends AbstractQueue<CrawlTask> implements CrawlFrontier, AutoCloseable {
+
+    static final int TASKS_PER_SEGMENT = 65_536;
+    private static final int HOST_SCAN_BUDGET = 64;
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+    private static final long TASK_REFILL_INTERVAL_MILLIS = 100;
+
+    private final BlockingQueue<CrawlTask> memoryQueue;
+    private final int maxTasksInMemory;
+    private final Path spillDirectory;
+    private final ReentrantLock spillLock = new ReentrantLock();
+    private final Map<Long, Segment> segments = new HashMap<>();
+    private final Map<String, HostSpill> spilledHosts = new HashMap<>();
+    private final ArrayDeque<HostSpill> hostRotation = new ArrayDeque<>();
+    private final ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+    private Segment writeSegment;
+    private Path segmentDirectory;
+    private volatile long spilledTasks;
+    private long segmentCounter;
+
+    public SpillingCrawlQueue(BlockingQueue<CrawlTask> memoryQueue, int maxTasksInMemory, Path spillDirectory) {
+        if (maxTasksInMemory < 1) {
+            throw new IllegalArgumentException("Maximum crawl tasks in memory cannot be less than 1");
+        }
+        this.memoryQueue = memoryQueue;
+        this.maxTasksInMemory = maxTasksInMemory;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public boolean offer(CrawlTask task) {
+        if (task == null) {
+            throw new NullPointerException("Crawl task must not be null");
+        }
+        if (task == CrawlTask.END_OF_CRAWL) {
+            return memoryQueue.offer(task);
+        }
+        spillLock.lock();
+        try {
+            String host = UrlUtil.getHost(task.url());
+            if (!spilledHosts.containsKey(host) && memoryQueue.size() < maxTasksInMemory) {
+                return memoryQueue.offer(task);
+            }
+            spill(host, task);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not spill crawl task to %s".formatted(spillDirectory), e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    @Override
+    public void put(CrawlTask task) {
+        offer(task);
+    }
+
+    @Override
+    public boolean offer(CrawlTask task, long timeout, TimeUnit unit) {
+        return offer(task);
+    }
+
+    @Override
+    public CrawlTask poll() {
+        refillIfSpilled();
+        return memoryQueue.poll();
+    }
+
+    @Override
+    public CrawlTask poll(long timeout, TimeUnit unit) throws InterruptedException {
+        refillIfSpilled();
+        return memoryQueue.poll(timeout, unit);
+    }
+
+    @Override
+    public CrawlTask take() throws InterruptedException {
+        CrawlTask task;
+        do {
+            task = poll(TASK_REFILL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } while (task == null);
+        return task;
+    }
+
+    @Override
+    public void release(CrawlTask task) {
+        if (memoryQueue instanceof CrawlFrontier crawlFrontier) {
+            crawlFrontier.release(task);
+        }
+    }
+
+    @Override
+    public boolean hasReadyTask() {
+        if (memoryQueue instanceof CrawlFrontier crawlFrontier) {
+            return crawlFrontier.hasReadyTask();
+        }
+        return !memoryQueue.isEmpty();
+    }
+
+    @Override
+    public boolean isHostReady(String host) {
+        return !(memoryQueue instanceof CrawlFrontier crawlFrontier) || crawlFrontier.isHostReady(host);
+    }
+
+    private void refillIfSpilled() {
+        if (spilledTasks == 0) {
+            return;
+        }
+        spillLock.lock();
+        try {
+            refill();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read spilled crawl tasks from %s".formatted(segmentDirectory), e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void spill(String host, CrawlTask task) throws IOException {
+        if (writeSegment == null || writeSegment.writtenTasks >= TASKS_PER_SEGMENT || writeSegment.output.size() >= MAX_SEGMENT_BYTES) {
+            if (writeSegment != null) {
+                finishWriting(writeSegment);
+            }
+            long id = segmentCounter++;
+            writeSegment = new Segment(id, createSegmentFile(id));
+            segments.put(id, writeSegment);
+        }
+        HostSpill hostSpill = spilledHosts.get(host);
+        if (hostSpill == null) {
+            hostSpill = new HostSpill(host);
+            spilledHosts.put(host, hostSpill);
+            hostRotation.addLast(hostSpill);
+        }
+        hostSpill.addLast(writeSegment.write(task));
+        spilledTasks++;
+    }
+
+    private CrawlTask readSpilledTask(HostSpill hostSpill) throws IOException {
+        long position = hostSpill.pollFirst();
+        Segment segment = segments.get(position >>> Integer.SIZE);
+        CrawlTask task = segment.read((int) position, lengthBuffer);
+        spilledTasks--;
+        if (segment.isFullyRead()) {
+            segments.remove(segment.id);
+            segment.delete();
+        }
+        return task;
+    }
+
+    private void refill() throws IOException {
+        int skippedHosts = 0;
+        for (int scannedHosts = 0; scannedHosts < HOST_SCAN_BUDGET && skippedHosts < hostRotation.size(); scannedHosts++) {
+            int tasksInMemory = memoryQueue.size();
+            if (tasksInMemory >= maxTasksInMemory) {
+                return;
+            }
+            HostSpill hostSpill = hostRotation.pollFirst();
+            if (tasksInMemory < maxTasksInMemory / 2 || isHostReady(hostSpill.host)) {
+                memoryQueue.offer(readSpilledTask(hostSpill));
+                skippedHosts = 0;
+            } else {
+                skippedHosts++;
+            }
+            if (hostSpill.isEmpty()) {
+                spilledHosts.remove(hostSpill.host);
+            } else {
+                hostRotation.addLast(hostSpill);
+            }
+        }
+    }
+
+    private void finishWriting(Segment segment) throws IOException {
+        segment.finishWriting();
+        if (segment.isFullyRead()) {
+            segments.remove(segment.id);
+            segment.delete();
+        }
+    }
+
+    private Path createSegmentFile(long id) throws IOException {
+        if (segmentDirectory == null) {
+            Files.createDirectories(spillDirectory);
+            segmentDirectory = Files.createTempDirectory(spillDirectory, "crawl-frontier-");
+            System.out.printf("Crawl frontier exceeds %d tasks, spilling to %s%n", maxTasksInMemory, segmentDirectory);
+        }
+        return segmentDirectory.resolve("segment-%d.bin".formatted(id));
+    }
+
+    long spilledTaskCount() {
+        spillLock.lock();
+        try {
+            return spilledTasks;
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    int segmentCount() {
+        spillLock.lock();
+        try {
+            return segments.size();
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    @Override
+    public CrawlTask peek() {
+        refillIfSpilled();
+        return memoryQueue.peek();
+    }
+
+    @Override
+    public int size() {
+        spillLock.lock();
+        try {
+            return (int) Math.min(Integer.MAX_VALUE, memoryQueue.size() + spilledTasks);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Iterator<CrawlTask> iterator() {
+        return memoryQueue.iterator();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super CrawlTask> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super CrawlTask> collection, int maxElements) {
+        int drained = 0;
+        CrawlTask task;
+        while (drained < maxElements && (task = poll()) != null) {
+            collection.add(task);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public void close() {
+        spillLock.lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.delete();
+            }
+            segments.clear();
+            spilledHosts.clear();
+            hostRotation.clear();
+            writeSegment = null;
+            spilledTasks = 0;
+            if (segmentDirectory != null) {
+                Files.deleteIfExists(segmentDirectory);
+            }
+        } catch (IOException e) {
+            System.err.printf("Could not delete crawl frontier spill directory %s: %s%n", segmentDirectory, e.getMessage());
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private static final class HostSpill {
+
+        private final String host;
+        private long[] positions = new long[4];
+        private int head;
+        private int size;
+
+        private HostSpill(String host) {
+            this.host = host;
+        }
+
+        private void addLast(long position) {
+            if (size == positions.length) {
+                long[] grown = new long[positions.length * 2];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = positions[(head + i) % positions.length];
+                }
+                positions = grown;
+                head = 0;
+            }
+            positions[(head + size) % positions.length] = position;
+            size++;
+        }
+
+        private long pollFirst() {
+            long position = positions[head];
+            head = (head + 1) % positions.length;
+            size--;
+            return position;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final Path file;
+        private DataOutputStream output;
+        private FileChannel input;
+        private int writtenTasks;
+        private int readTasks;
+
+        private Segment(long id, Path file) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file.toFile())));
+        }
+
+        private long write(CrawlTask task) throws IOException {
+            long position = id << Integer.SIZE | output.size();
+            byte[] url = task.url().getBytes(StandardCharsets.UTF_8);
+            output.writeInt(url.length);
+            output.write(url);
+            output.writeInt(task.depth());
+            writtenTasks++;
+            return position;
+        }
+
+        private void finishWriting() throws IOException {
+            if (output != null) {
+                output.close();
+                output = null;
+            }
+        }
+
+        private CrawlTask read(int offset, ByteBuffer lengthBuffer) throws IOException {
+            if (output != null) {
+                output.flush();
+            }
+            if (input == null) {
+                input = FileChannel.open(file, StandardOpenOption.READ);
+            }
+            lengthBuffer.clear();
+            readFully(lengthBuffer, offset);
+            ByteBuffer record = ByteBuffer.allocate(lengthBuffer.getInt(0) + Integer.BYTES);
+            readFully(record, offset + Integer.BYTES);
+            readTasks++;
+            String url = new String(record.array(), 0, record.capacity() - Integer.BYTES, StandardCharsets.UTF_8);
+            return new CrawlTask(url, record.getInt(record.capacity() - Integer.BYTES));
+        }
+
+        private void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                if (input.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of crawl frontier segment %s".formatted(file));
+                }
+            }
+        }
+
+        private boolean isFullyRead() {
+            return output == null && readTasks == writtenTasks;
+        }
+
+        private void delete() throws IOException {
+            finishWriting();
+            if (input != null) {
+                input.close();
+                input = null;
+            }
+            Files.deleteIfExists(file);
+        }
+    }
+}
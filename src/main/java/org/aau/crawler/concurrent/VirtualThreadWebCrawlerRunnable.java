@@ -0,0 +1,40 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.WebCrawlerConfiguration;
+import org.aau.http.HttpClient;
+import org.aau.web.WebDriver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+public class VirtualThreadWebCrawlerRunnable extends DispatchingWebCrawlerRunnable {
+
+    private final ExecutorService taskExecutor;
+
+    public VirtualThreadWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration, ExecutorService taskExecutor) {
+        super(sharedState, configuration);
+        this.taskExecutor = taskExecutor;
+    }
+
+    public VirtualThreadWebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration, ExecutorService taskExecutor, WebDriver webDriver, HttpClient httpClient) {
+        super(sharedState, configuration, webDriver, httpClient);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    protected void dispatch(CrawlTask task) {
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    processCrawlTask(task);
+                } finally {
+                    releaseSlot();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releaseSlot();
+            sharedState.abandonTask(task);
+            throw e;
+        }
+    }
+}
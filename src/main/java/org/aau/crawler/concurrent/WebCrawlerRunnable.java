@@ -3,27 +3,60 @@ package org.aau.crawler.concurrent;
 import org.aau.config.WebCrawlerConfiguration;
 import org.aau.crawler.analyzer.PageAnalyzer;
 import org.aau.crawler.analyzer.PageAnalyzerImpl;
+import org.aau.crawler.analyzer.StreamingPageAnalyzer;
+import org.aau.crawler.cache.CachedPage;
+import org.aau.crawler.cache.LinkStatus;
+import org.aau.crawler.canonicalizer.UrlCanonicalizer;
+import org.aau.crawler.canonicalizer.UrlCanonicalizerImpl;
 import org.aau.crawler.client.WebCrawlerClient;
 import org.aau.crawler.client.WebCrawlerClientImpl;
 import org.aau.crawler.error.CrawlingError;
 import org.aau.crawler.parser.HtmlParserImpl;
 import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.UnparsedLink;
 import org.aau.crawler.result.WorkingLink;
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
+import org.aau.http.HttpClient;
+import org.aau.http.HttpClientImpl;
+import org.aau.web.LazyWebDriver;
+import org.aau.web.WebDriver;
+import org.aau.web.WebDriverImpl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 public class WebCrawlerRunnable implements Runnable {
 
-    private final WebCrawlerSharedState sharedState;
+    private static final String EXTERNAL_LINK_REASON = "external link";
+
+    protected final WebCrawlerSharedState sharedState;
+    protected final WebCrawlerConfiguration configuration;
+    protected final WebDriver webDriver;
+    protected final HttpClient httpClient;
     private final WebCrawlerClient webCrawlerClient;
     private final PageAnalyzer analyzer;
-    private final WebCrawlerConfiguration configuration;
+    private final UrlCanonicalizer urlCanonicalizer;
 
     public WebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration) {
+        this(sharedState, configuration, new LazyWebDriver(WebDriverImpl::new));
+    }
+
+    public WebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration, WebDriver webDriver) {
+        this(sharedState, configuration, webDriver, new HttpClientImpl(configuration.httpClientOptions()));
+    }
+
+    public WebCrawlerRunnable(WebCrawlerSharedState sharedState, WebCrawlerConfiguration configuration, WebDriver webDriver, HttpClient httpClient) {
         this.sharedState = sharedState;
+        this.configuration = configuration;
+        this.webDriver = webDriver;
+        this.httpClient = httpClient;
         this.webCrawlerClient = createWebCrawlerClient();
         this.analyzer = createPageAnalyzer();
-        this.configuration = configuration;
+        this.urlCanonicalizer = createUrlCanonicalizer();
     }
 
     @Override
@@ -39,33 +72,36 @@ public class WebCrawlerRunnable implements Runnable {
     }
 
     protected void processCrawlTasks() {
-        while (true) {
-            CrawlTask task = null;
+        while (!sharedState.isCrawlComplete()) {
             try {
-                System.out.printf("WebCrawler thread %s trying to fetch task... %n", Thread.currentThread().getName());
-                task = sharedState.getNextTask();
-                if (task == null) {
-                    if (!sharedState.hasActiveThreads() && sharedState.hasNoFurtherTasks()) {
-                        System.out.printf("WebCrawler thread %s: No further tasks and no active threads, finishing job...%n", Thread.currentThread().getName());
-                        sharedState.countDownCompletionLatch();
-                        break;
-                    }
-                    continue;
+                CrawlTask task = sharedState.getNextTask();
+                if (task != null) {
+                    processCrawlTask(task);
                 }
-
-                System.out.printf("WebCrawler thread %s fetched task: %s%n", Thread.currentThread().getName(), task);
-                sharedState.incrementActiveThreads();
-                crawlLink(task.url(), task.depth());
-
             } catch (InterruptedException e) {
-                System.err.printf("Web Crawler thread %s was interrupted while executing task: %s%n", Thread.currentThread().getName(), e.getMessage());
-                reportError("Web Crawler thread %s was interrupted while executing task: %s".formatted(Thread.currentThread().getName(), task), e);
+                System.err.printf("Web Crawler thread %s was interrupted while fetching task: %s%n", Thread.currentThread().getName(), e.getMessage());
+                reportError("Web Crawler thread %s was interrupted while fetching task".formatted(Thread.currentThread().getName()), e);
                 Thread.currentThread().interrupt();
                 break;
-            } finally {
-                if (task != null) {
-                    sharedState.decrementActiveThreads();
-                }
+            }
+        }
+        System.out.printf("WebCrawler thread %s: No further tasks, finishing job...%n", Thread.currentThread().getName());
+    }
+
+    protected void processCrawlTask(CrawlTask task) {
+        System.out.printf("WebCrawler thread %s fetched task: %s%n", Thread.currentThread().getName(), task);
+        sharedState.incrementActiveThreads();
+        boolean handedOff = false;
+        try {
+            if (sharedState.usesParseStage()) {
+                handedOff = fetchAndHandOff(task);
+            } else {
+                crawlLink(task.url(), task.depth());
+            }
+        } finally {
+            sharedState.decrementActiveThreads();
+            if (!handedOff) {
+                sharedState.completeTask(task);
             }
         }
     }
@@ -76,32 +112,204 @@ public class WebCrawlerRunnable implements Runnable {
             return;
         }
 
-        if (webCrawlerClient.isPageAvailable(url)) {
-            try {
-                String html = webCrawlerClient.getPageContent(url);
-                WorkingLink link = analyzer.analyze(url, depth, html);
-                sharedState.addCrawledLink(link);
-                reportSublinks(link.getSubLinks(), depth);
-                System.out.printf("WebCrawler thread %s successfully crawled link %s %n", Thread.currentThread().getName(), url);
-            } catch (RuntimeException e) {
-                System.err.printf("%s: Unexpected error while crawling %s, reporting broken link: %s%n", Thread.currentThread().getName(), url, e.getMessage());
-                reportError("Unexpected error while crawling %s, reporting broken link".formatted(url), e);
+        FetchResult result = fetchLink(url, depth);
+        if (result != null) {
+            analyzeLink(url, depth, result);
+        }
+    }
+
+    protected boolean fetchAndHandOff(CrawlTask task) {
+        String url = task.url();
+        int depth = task.depth();
+        if (!shouldCrawl(url, depth)) {
+            System.out.printf("WebCrawler thread %s skipping link %s %n", Thread.currentThread().getName(), url);
+            return false;
+        }
+
+        FetchResult result = fetchLink(url, depth);
+        if (result == null) {
+            return false;
+        }
+        return handOff(task, result);
+    }
+
+    protected boolean handOff(CrawlTask task, FetchResult result) {
+        String url = task.url();
+        int depth = task.depth();
+        sharedState.releaseFetchSlot(task);
+        try {
+            sharedState.parseStage().submit(() -> {
+                try {
+                    analyzeLink(url, depth, result);
+                } finally {
+                    sharedState.completeTask(task);
+                }
+            });
+            return true;
+        } catch (InterruptedException e) {
+            System.err.printf("WebCrawler thread %s was interrupted while handing off %s, analyzing it directly%n", Thread.currentThread().getName(), url);
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException e) {
+            System.err.printf("WebCrawler thread %s could not hand off %s, analyzing it directly%n", Thread.currentThread().getName(), url);
+        }
+        analyzeLink(url, depth, result);
+        return false;
+    }
+
+    protected FetchResult fetchLink(String url, int depth) {
+        try {
+            if (reuseLinkStatus(url, depth)) {
+                return null;
+            }
+            if (isExternalLink(url)) {
+                checkExternalLink(url, depth);
+                return null;
+            }
+            CachedPage cachedPage = sharedState.pageCache().get(url).orElse(null);
+            FetchResult result = cachedPage == null ? webCrawlerClient.fetch(url) : webCrawlerClient.fetch(url, cachedPage.validators());
+            return acceptFetchResult(url, depth, result, cachedPage);
+        } catch (RuntimeException e) {
+            reportBrokenLink(url, depth, e);
+            return null;
+        }
+    }
+
+    protected CompletableFuture<FetchResult> fetchLinkAsync(String url, int depth, Executor completionExecutor) {
+        if (reuseLinkStatus(url, depth)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (isExternalLink(url)) {
+            return CompletableFuture.supplyAsync(() -> {
+                checkExternalLink(url, depth);
+                return null;
+            }, completionExecutor);
+        }
+        CachedPage cachedPage = sharedState.pageCache().get(url).orElse(null);
+        CompletableFuture<FetchResult> fetch;
+        try {
+            fetch = cachedPage == null ? webCrawlerClient.fetchAsync(url) : webCrawlerClient.fetchAsync(url, cachedPage.validators());
+        } catch (RuntimeException e) {
+            fetch = CompletableFuture.failedFuture(e);
+        }
+        return fetch.handleAsync((result, failure) -> {
+            if (failure != null) {
+                reportBrokenLink(url, depth, failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+                return null;
+            }
+            return acceptFetchResult(url, depth, result, cachedPage);
+        }, completionExecutor);
+    }
+
+    private boolean reuseLinkStatus(String url, int depth) {
+        LinkStatus linkStatus = sharedState.linkStatusCache().get(url).orElse(null);
+        if (linkStatus == null) {
+            return false;
+        }
+        if (!linkStatus.isSuccessful()) {
+            System.out.printf("WebCrawler thread %s reused broken status of link %s (status %d, checked at %s) %n", Thread.currentThread().getName(), url, linkStatus.statusCode(), linkStatus.checkedAt());
+            sharedState.addCrawledLink(new BrokenLink(url, depth));
+            return true;
+        }
+        if (linkStatus.isUnparsed()) {
+            System.out.printf("WebCrawler thread %s reused status of unparsed link %s (checked at %s) %n", Thread.currentThread().getName(), url, linkStatus.checkedAt());
+            sharedState.addCrawledLink(new UnparsedLink(url, depth, linkStatus.unparsedReason()));
+            return true;
+        }
+        if (isExternalLink(url)) {
+            System.out.printf("WebCrawler thread %s reused status of external link %s (status %d, checked at %s) %n", Thread.currentThread().getName(), url, linkStatus.statusCode(), linkStatus.checkedAt());
+            sharedState.addCrawledLink(new UnparsedLink(url, depth, EXTERNAL_LINK_REASON));
+            return true;
+        }
+        return false;
+    }
+
+    private void checkExternalLink(String url, int depth) {
+        try {
+            FetchResult result = webCrawlerClient.checkLink(url);
+            sharedState.linkStatusCache().record(url, result);
+            if (!result.isSuccessful()) {
+                System.out.printf("WebCrawler thread %s found broken external link %s (status %d) %n", Thread.currentThread().getName(), url, result.statusCode());
                 sharedState.addCrawledLink(new BrokenLink(url, depth));
+                return;
             }
-        } else {
+            System.out.printf("WebCrawler thread %s checked external link %s (status %d) %n", Thread.currentThread().getName(), url, result.statusCode());
+            sharedState.addCrawledLink(new UnparsedLink(url, depth, EXTERNAL_LINK_REASON));
+        } catch (RuntimeException e) {
+            reportBrokenLink(url, depth, e);
+        }
+    }
+
+    private boolean isExternalLink(String url) {
+        return !configuration.isAllowedDomain(url);
+    }
+
+    private FetchResult acceptFetchResult(String url, int depth, FetchResult result, CachedPage cachedPage) {
+        sharedState.linkStatusCache().record(url, result);
+        if (!result.isSuccessful()) {
+            System.out.printf("WebCrawler thread %s found broken link %s (status %d) %n", Thread.currentThread().getName(), url, result.statusCode());
             sharedState.addCrawledLink(new BrokenLink(url, depth));
+            return null;
+        }
+        if (result.isUnparsed()) {
+            System.out.printf("WebCrawler thread %s checked link %s without parsing it: %s %n", Thread.currentThread().getName(), url, result.unparsedReason());
+            sharedState.addCrawledLink(new UnparsedLink(url, depth, result.unparsedReason()));
+            return null;
+        }
+        if (cachedPage != null && cachedPage.matches(result)) {
+            reuseCachedPage(url, depth, result, cachedPage);
+            return null;
+        }
+        return result;
+    }
+
+    private void reuseCachedPage(String url, int depth, FetchResult result, CachedPage cachedPage) {
+        System.out.printf("WebCrawler thread %s reused cached analysis of unchanged link %s %n", Thread.currentThread().getName(), url);
+        CacheValidators validators = CacheValidators.of(result);
+        if (!result.isNotModified() && !validators.equals(cachedPage.validators())) {
+            sharedState.pageCache().put(url, cachedPage.withValidators(validators));
+        }
+        reportCachedPage(url, depth, cachedPage);
+    }
+
+    private void reportCachedPage(String url, int depth, CachedPage cachedPage) {
+        WorkingLink link = cachedPage.toWorkingLink(url, depth);
+        sharedState.addCrawledLink(link);
+        reportSublinks(link.getSubLinks(), depth);
+    }
+
+    protected void analyzeLink(String url, int depth, FetchResult result) {
+        try {
+            WorkingLink link = analyzer.analyze(url, depth, result.body());
+            sharedState.addCrawledLink(link);
+            if (sharedState.pageCache().isEnabled()) {
+                sharedState.pageCache().put(url, CachedPage.of(result, link));
+            }
+            reportSublinks(link.getSubLinks(), depth);
+            System.out.printf("WebCrawler thread %s successfully crawled link %s %n", Thread.currentThread().getName(), url);
+        } catch (RuntimeException e) {
+            reportBrokenLink(url, depth, e);
         }
     }
 
+    private void reportBrokenLink(String url, int depth, Throwable e) {
+        System.err.printf("%s: Unexpected error while crawling %s, reporting broken link: %s%n", Thread.currentThread().getName(), url, e.getMessage());
+        reportError("Unexpected error while crawling %s, reporting broken link".formatted(url), e);
+        sharedState.addCrawledLink(new BrokenLink(url, depth));
+    }
+
     protected boolean shouldCrawl(String url, int depth) {
-        return depth <= configuration.maximumDepth() && configuration.isAllowedDomain(url) && !isAlreadyCrawledUrl(url);
+        return depth <= configuration.maximumDepth() && (configuration.isAllowedDomain(url) || configuration.fetchOptions().checkExternalLinks());
     }
 
     protected void reportSublinks(Set<String> subLinks, int depth) {
+        if (depth + 1 > configuration.maximumDepth()) {
+            return;
+        }
         subLinks.forEach(sub -> {
             try {
-                if (depth + 1 <= configuration.maximumDepth() && !isAlreadyCrawledUrl(sub)) {
-                    sharedState.addTask(new CrawlTask(sub, depth + 1));
+                String url = urlCanonicalizer.canonicalize(sub);
+                if (!isAlreadyCrawledUrl(url)) {
+                    sharedState.addTask(new CrawlTask(url, depth + 1));
                 }
             } catch (InterruptedException e) {
                 System.err.printf("Web Crawler thread %s was interrupted while reporting sublinks: %s%n", Thread.currentThread().getName(), e.getMessage());
@@ -116,11 +324,18 @@ public class WebCrawlerRunnable implements Runnable {
     }
 
     protected WebCrawlerClient createWebCrawlerClient() {
-        return new WebCrawlerClientImpl();
+        return new WebCrawlerClientImpl(configuration.fetchOptions(), webDriver, httpClient);
     }
 
     protected PageAnalyzer createPageAnalyzer() {
-        return new PageAnalyzerImpl(new HtmlParserImpl());
+        return switch (configuration.parserType()) {
+            case DOM -> new PageAnalyzerImpl(new HtmlParserImpl());
+            case STREAMING -> new StreamingPageAnalyzer();
+        };
+    }
+
+    protected UrlCanonicalizer createUrlCanonicalizer() {
+        return new UrlCanonicalizerImpl(configuration.canonicalizationOptions());
     }
 
     protected void reportError(String message, Throwable e) {
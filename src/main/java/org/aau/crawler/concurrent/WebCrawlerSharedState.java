@@ -1,13 +1,18 @@
 package org.aau.crawler.concurrent;
 
+import org.aau.crawler.cache.LinkStatusCache;
+import org.aau.crawler.cache.PageCache;
+import org.aau.crawler.checkpoint.CrawlCheckpoint;
 import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.CrawlResultSink;
 import org.aau.crawler.result.Link;
+import org.aau.crawler.visited.VisitedUrlIndex;
+import org.aau.crawler.visited.VisitedUrlIndexImpl;
 
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public record WebCrawlerSharedState(
@@ -15,17 +20,118 @@ public record WebCrawlerSharedState(
         Set<Link> crawledLinks,
         AtomicInteger activeThreads,
         CountDownLatch completionLatch,
-        List<CrawlingError> crawlingErrors) {
+        List<CrawlingError> crawlingErrors,
+        VisitedUrlIndex visitedUrls,
+        CrawlCounters counters,
+        CrawlServices services) {
 
-    public boolean containsCrawledUrl(String url) {
+    public WebCrawlerSharedState(
+            BlockingQueue<CrawlTask> urlQueue,
+            Set<Link> crawledLinks,
+            AtomicInteger activeThreads,
+            CountDownLatch completionLatch,
+            List<CrawlingError> crawlingErrors) {
+        this(urlQueue, crawledLinks, activeThreads, completionLatch, crawlingErrors, indexOf(crawledLinks), new CrawlCounters(crawledLinks.size()), CrawlServices.NONE);
+    }
+
+    public WebCrawlerSharedState withVisitedUrls(VisitedUrlIndex visitedUrls) {
+        return new WebCrawlerSharedState(urlQueue, crawledLinks, activeThreads, completionLatch, crawlingErrors, visitedUrls, counters, services);
+    }
+
+    public WebCrawlerSharedState withCounters(CrawlCounters counters) {
+        return new WebCrawlerSharedState(urlQueue, crawledLinks, activeThreads, completionLatch, crawlingErrors, visitedUrls, counters, services);
+    }
+
+    public WebCrawlerSharedState withServices(CrawlServices services) {
+        return new WebCrawlerSharedState(urlQueue, crawledLinks, activeThreads, completionLatch, crawlingErrors, visitedUrls, counters, services);
+    }
+
+    public WebCrawlerSharedState withResultSink(CrawlResultSink resultSink) {
+        return withServices(services.withResultSink(resultSink));
+    }
+
+    public WebCrawlerSharedState withCheckpoint(CrawlCheckpoint checkpoint) {
+        return withServices(services.withCheckpoint(checkpoint));
+    }
+
+    public WebCrawlerSharedState withParseStage(ParseStage parseStage) {
+        return withServices(services.withParseStage(parseStage));
+    }
+
+    public WebCrawlerSharedState withPageCache(PageCache pageCache) {
+        return withServices(services.withPageCache(pageCache));
+    }
+
+    public WebCrawlerSharedState withLinkStatusCache(LinkStatusCache linkStatusCache) {
+        return withServices(services.withLinkStatusCache(linkStatusCache));
+    }
+
+    public CrawlResultSink resultSink() {
+        return services.resultSink();
+    }
+
+    public CrawlCheckpoint checkpoint() {
+        return services.checkpoint();
+    }
+
+    public ParseStage parseStage() {
+        return services.parseStage();
+    }
+
+    public PageCache pageCache() {
+        return services.pageCache();
+    }
+
+    public LinkStatusCache linkStatusCache() {
+        return services.linkStatusCache();
+    }
+
+    public AtomicInteger pendingTasks() {
+        return counters.pendingTasks();
+    }
+
+    public AtomicInteger waitingWorkers() {
+        return counters.waitingWorkers();
+    }
+
+    private static VisitedUrlIndex indexOf(Set<Link> crawledLinks) {
+        VisitedUrlIndex index = new VisitedUrlIndexImpl();
         synchronized (crawledLinks) {
-            return crawledLinks.stream().anyMatch(crawlResult -> crawlResult.getUrl().equals(url));
+            crawledLinks.forEach(link -> index.claim(link.getUrl()));
         }
+        return index;
+    }
+
+    public boolean containsCrawledUrl(String url) {
+        return visitedUrls.contains(url);
     }
 
     public void addCrawledLink(Link link) {
+        recordCrawledLink(link, false);
+    }
+
+    public void restoreCrawledLink(Link link) {
+        recordCrawledLink(link, true);
+    }
+
+    private void recordCrawledLink(Link link, boolean checkpointed) {
+        boolean firstVisit = visitedUrls.claim(link.getUrl());
+        if (!retainCrawledLink(link, firstVisit || !checkpointed)) {
+            return;
+        }
+        counters.crawledLinks().incrementAndGet();
+        if (!checkpointed) {
+            checkpoint().linkCrawled(link);
+        }
+        resultSink().accept(link);
+    }
+
+    private boolean retainCrawledLink(Link link, boolean unseen) {
+        if (resultSink().persistsResults()) {
+            return unseen;
+        }
         synchronized (crawledLinks) {
-            crawledLinks.add(link);
+            return crawledLinks.add(link);
         }
     }
 
@@ -36,11 +142,80 @@ public record WebCrawlerSharedState(
     }
 
     public CrawlTask getNextTask() throws InterruptedException {
-        return urlQueue.poll(5, TimeUnit.SECONDS);
+        CrawlTask task;
+        counters.waitingWorkers().incrementAndGet();
+        try {
+            if (isCrawlComplete()) {
+                return null;
+            }
+            task = urlQueue.take();
+        } finally {
+            counters.waitingWorkers().decrementAndGet();
+        }
+        if (task == CrawlTask.END_OF_CRAWL) {
+            wakeWaitingWorkers();
+            return null;
+        }
+        return task;
+    }
+
+    public boolean addTask(CrawlTask task) throws InterruptedException {
+        if (!visitedUrls.claim(task.url())) {
+            counters.suppressedDuplicates().incrementAndGet();
+            return false;
+        }
+        checkpoint().taskEnqueued(task);
+        enqueueTask(task);
+        return true;
+    }
+
+    public void restoreTask(CrawlTask task) throws InterruptedException {
+        visitedUrls.claim(task.url());
+        enqueueTask(task);
+    }
+
+    private void enqueueTask(CrawlTask task) throws InterruptedException {
+        counters.pendingTasks().incrementAndGet();
+        try {
+            urlQueue.put(task);
+        } catch (InterruptedException | RuntimeException e) {
+            abandonTask(task);
+            throw e;
+        }
     }
 
-    public void addTask(CrawlTask task) throws InterruptedException {
-        urlQueue.put(task);
+    public void completeTask(CrawlTask task) {
+        checkpoint().taskCompleted(task);
+        abandonTask(task);
+    }
+
+    public void abandonTask(CrawlTask task) {
+        releaseFetchSlot(task);
+        if (counters.pendingTasks().decrementAndGet() == 0) {
+            countDownCompletionLatch();
+        }
+    }
+
+    public void releaseFetchSlot(CrawlTask task) {
+        if (urlQueue instanceof CrawlFrontier crawlFrontier) {
+            crawlFrontier.release(task);
+        }
+    }
+
+    public boolean usesParseStage() {
+        return parseStage() != ParseStage.INLINE;
+    }
+
+    public boolean isCrawlComplete() {
+        return completionLatch.getCount() == 0;
+    }
+
+    public long getSuppressedDuplicates() {
+        return counters.suppressedDuplicates().get();
+    }
+
+    public long getCrawledLinkCount() {
+        return counters.crawledLinks().get();
     }
 
     public boolean hasNoFurtherTasks() {
@@ -61,5 +236,14 @@ public record WebCrawlerSharedState(
 
     public void countDownCompletionLatch() {
         completionLatch.countDown();
+        if (isCrawlComplete()) {
+            wakeWaitingWorkers();
+        }
+    }
+
+    private void wakeWaitingWorkers() {
+        if (counters.waitingWorkers().get() > 0) {
+            urlQueue.offer(CrawlTask.END_OF_CRAWL);
+        }
     }
 }
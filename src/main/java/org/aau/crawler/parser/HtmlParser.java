@@ -9,4 +9,8 @@ public interface HtmlParser {
     Set<String> extractHeadings(Document htmlDocument);
 
     Set<String> extractLinks(Document htmlDocument);
+
+    default PageContent extractContent(Document htmlDocument) {
+        return new PageContent(extractHeadings(htmlDocument), extractLinks(htmlDocument));
+    }
 }
@@ -11,16 +11,16 @@ import java.util.Set;
 public class HtmlParserImpl implements HtmlParser {
 
     private static final String HEADING_LEVEL_CHARACTER = "^";
+    private static final String LINK_TAG = "a";
+    private static final String HREF_ATTRIBUTE = "href";
+    private static final String ABSOLUTE_HREF_ATTRIBUTE = "abs:href";
 
     @Override
     public Set<String> extractHeadings(Document htmlDocument) {
         Elements headings = htmlDocument.select(":is(h1,h2,h3,h4,h5)");
         Set<String> headingSet = new LinkedHashSet<>();
         for (Element heading : headings) {
-            String tagName = heading.tagName();
-            int level = Integer.parseInt(tagName.substring(1));
-            String headingLevel = HEADING_LEVEL_CHARACTER.repeat(level);
-            headingSet.add(headingLevel + " " + heading.text());
+            headingSet.add(formatHeading(heading));
         }
         return headingSet;
     }
@@ -30,8 +30,33 @@ public class HtmlParserImpl implements HtmlParser {
         Elements links = htmlDocument.select("a[href]");
         Set<String> linkSet = new LinkedHashSet<>();
         for (Element link : links) {
-            linkSet.add(link.attr("abs:href"));
+            linkSet.add(link.attr(ABSOLUTE_HREF_ATTRIBUTE));
         }
         return linkSet;
     }
+
+    @Override
+    public PageContent extractContent(Document htmlDocument) {
+        Set<String> headingSet = new LinkedHashSet<>();
+        Set<String> linkSet = new LinkedHashSet<>();
+        htmlDocument.traverse(element -> {
+            String tagName = element.tagName();
+            if (isHeading(tagName)) {
+                headingSet.add(formatHeading(element));
+            } else if (LINK_TAG.equals(tagName) && element.hasAttr(HREF_ATTRIBUTE)) {
+                linkSet.add(element.attr(ABSOLUTE_HREF_ATTRIBUTE));
+            }
+        });
+        return new PageContent(headingSet, linkSet);
+    }
+
+    private static boolean isHeading(String tagName) {
+        return tagName.length() == 2 && tagName.charAt(0) == 'h' && tagName.charAt(1) >= '1' && tagName.charAt(1) <= '5';
+    }
+
+    private static String formatHeading(Element heading) {
+        int level = Integer.parseInt(heading.tagName().substring(1));
+        String headingLevel = HEADING_LEVEL_CHARACTER.repeat(level);
+        return headingLevel + " " + heading.text();
+    }
 }
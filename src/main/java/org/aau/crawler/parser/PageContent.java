@@ -0,0 +1,6 @@
+package org.aau.crawler.parser;
+
+import java.util.Set;
+
+public record PageContent(Set<String> headings, Set<String> links) {
+}
@@ -0,0 +1,288 @@
+package org.aau.crawler.parser;
+
+import org.aau.util.StringUtil;
+import org.aau.util.UrlUtil;
+import org.jsoup.parser.Parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public class StreamingHtmlScanner {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+    private static final String HEADING_LEVEL_CHARACTER = "^";
+    private static final int MAX_HEADING_LEVEL = 5;
+    private static final String LINK_TAG = "a";
+    private static final String BASE_TAG = "base";
+    private static final String HREF_ATTRIBUTE = "href";
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style", "textarea", "title", "xmp", "iframe", "noembed", "noframes");
+    private static final Set<String> TEXT_BREAKING_TAGS = Set.of(
+            "br", "p", "div", "li", "ul", "ol", "dl", "dt", "dd", "table", "tr", "td", "th", "section", "article",
+            "header", "footer", "nav", "aside", "blockquote", "pre", "hr", "figure", "figcaption", "address", "main"
+    );
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder token = new StringBuilder();
+    private final StringBuilder headingText = new StringBuilder();
+    private final Set<String> headings = new LinkedHashSet<>();
+    private final Set<String> links = new LinkedHashSet<>();
+    private Reader reader;
+    private int position;
+    private int limit;
+    private int pushedBack = EOF;
+    private String baseUrl;
+    private boolean baseUrlFromDocument;
+    private int headingLevel;
+
+    public StreamingHtmlScanner(String baseUrl) {
+        this.baseUrl = baseUrl == null ? "" : baseUrl;
+    }
+
+    public PageContent scan(Reader html) throws IOException {
+        this.reader = html;
+        int c;
+        while ((c = read()) != EOF) {
+            if (c == '<') {
+                scanMarkup();
+            } else if (headingLevel > 0) {
+                headingText.append((char) c);
+            }
+        }
+        closeHeading();
+        return new PageContent(headings, links);
+    }
+
+    private void scanMarkup() throws IOException {
+        int c = read();
+        if (c == '!') {
+            if (read('-') && read('-')) {
+                skipComment();
+            } else {
+                skipUntil('>');
+            }
+        } else if (c == '?') {
+            skipUntil('>');
+        } else if (c == '/') {
+            int next = read();
+            if (isLetter(next)) {
+                String tagName = readTagName(next);
+                skipUntil('>');
+                endTag(tagName);
+            } else if (next != '>') {
+                skipUntil('>');
+            }
+        } else if (isLetter(c)) {
+            startTag(readTagName(c));
+        } else {
+            unread(c);
+            if (headingLevel > 0) {
+                headingText.append('<');
+            }
+        }
+    }
+
+    private void startTag(String tagName) throws IOException {
+        boolean wantsHref = LINK_TAG.equals(tagName) || (BASE_TAG.equals(tagName) && !baseUrlFromDocument);
+        String href = readAttributes(wantsHref);
+        int level = headingLevel(tagName);
+        if (level > 0) {
+            closeHeading();
+            headingLevel = level;
+        } else if (headingLevel > 0 && TEXT_BREAKING_TAGS.contains(tagName)) {
+            headingText.append(' ');
+        }
+        if (href != null) {
+            String absoluteUrl = UrlUtil.resolve(baseUrl, Parser.unescapeEntities(href, true));
+            if (LINK_TAG.equals(tagName)) {
+                links.add(absoluteUrl);
+            } else if (!absoluteUrl.isEmpty()) {
+                baseUrl = absoluteUrl;
+                baseUrlFromDocument = true;
+            }
+        }
+        if (RAW_TEXT_TAGS.contains(tagName)) {
+            skipRawText(tagName);
+        }
+    }
+
+    private void endTag(String tagName) {
+        if (headingLevel(tagName) > 0) {
+            closeHeading();
+        } else if (headingLevel > 0 && TEXT_BREAKING_TAGS.contains(tagName)) {
+            headingText.append(' ');
+        }
+    }
+
+    private void closeHeading() {
+        if (headingLevel == 0) {
+            return;
+        }
+        if (headingLevel <= MAX_HEADING_LEVEL) {
+            String text = StringUtil.normalizeWhitespace(Parser.unescapeEntities(headingText.toString(), false)).trim();
+            headings.add(HEADING_LEVEL_CHARACTER.repeat(headingLevel) + " " + text);
+        }
+        headingLevel = 0;
+        headingText.setLength(0);
+    }
+
+    private String readAttributes(boolean wantsHref) throws IOException {
+        String href = null;
+        while (true) {
+            int c = read();
+            while (isWhitespace(c) || c == '/') {
+                c = read();
+            }
+            if (c == '>' || c == EOF) {
+                return href;
+            }
+            token.setLength(0);
+            while (c != EOF && c != '=' && c != '>' && c != '/' && !isWhitespace(c)) {
+                token.append(Character.toLowerCase((char) c));
+                c = read();
+            }
+            boolean isHref = wantsHref && href == null && HREF_ATTRIBUTE.contentEquals(token);
+            while (isWhitespace(c)) {
+                c = read();
+            }
+            if (c != '=') {
+                unread(c);
+                if (isHref) {
+                    href = "";
+                }
+                continue;
+            }
+            String value = readAttributeValue(isHref);
+            if (isHref) {
+                href = value;
+            }
+        }
+    }
+
+    private String readAttributeValue(boolean keep) throws IOException {
+        int c = read();
+        while (isWhitespace(c)) {
+            c = read();
+        }
+        token.setLength(0);
+        if (c == '"' || c == '\'') {
+            int quote = c;
+            while ((c = read()) != EOF && c != quote) {
+                if (keep) {
+                    token.append((char) c);
+                }
+            }
+        } else {
+            while (c != EOF && c != '>' && !isWhitespace(c)) {
+                if (keep) {
+                    token.append((char) c);
+                }
+                c = read();
+            }
+            unread(c);
+        }
+        return keep ? token.toString() : null;
+    }
+
+    private String readTagName(int first) throws IOException {
+        token.setLength(0);
+        int c = first;
+        while (c != EOF && c != '>' && c != '/' && !isWhitespace(c)) {
+            token.append(Character.toLowerCase((char) c));
+            c = read();
+        }
+        unread(c);
+        return token.toString();
+    }
+
+    private void skipRawText(String tagName) throws IOException {
+        int c;
+        while ((c = read()) != EOF) {
+            if (c == '<' && read('/') && readIgnoringCase(tagName)) {
+                int next = read();
+                if (next == '>' || next == '/' || isWhitespace(next) || next == EOF) {
+                    unread(next);
+                    skipUntil('>');
+                    return;
+                }
+                unread(next);
+            }
+        }
+    }
+
+    private void skipComment() throws IOException {
+        int dashes = 0;
+        int c;
+        while ((c = read()) != EOF) {
+            if (c == '>' && dashes >= 2) {
+                return;
+            }
+            dashes = c == '-' ? dashes + 1 : 0;
+        }
+    }
+
+    private void skipUntil(char end) throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c != EOF && c != end);
+    }
+
+    private boolean read(char expected) throws IOException {
+        int c = read();
+        if (c == expected) {
+            return true;
+        }
+        unread(c);
+        return false;
+    }
+
+    private boolean readIgnoringCase(String expected) throws IOException {
+        for (int i = 0; i < expected.length(); i++) {
+            int c = read();
+            if (c == EOF || Character.toLowerCase((char) c) != expected.charAt(i)) {
+                unread(c);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != EOF) {
+            int c = pushedBack;
+            pushedBack = EOF;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    private static int headingLevel(String tagName) {
+        if (tagName.length() == 2 && tagName.charAt(0) == 'h' && tagName.charAt(1) >= '1' && tagName.charAt(1) <= '6') {
+            return tagName.charAt(1) - '0';
+        }
+        return 0;
+    }
+
+    private static boolean isLetter(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+}
@@ -0,0 +1,12 @@
+package org.aau.crawler.result;
+
+public interface CrawlResultSink {
+
+    CrawlResultSink NONE = link -> {};
+
+    void accept(Link link);
+
+    default boolean persistsResults() {
+        return false;
+    }
+}
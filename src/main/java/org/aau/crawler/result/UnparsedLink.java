@@ -0,0 +1,24 @@
+package org.aau.crawler.result;
+
+public class UnparsedLink extends Link {
+
+    private final String reason;
+
+    public UnparsedLink(String url, int depth, String reason) {
+        super(url, depth);
+        this.reason = reason;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toMarkdownString() {
+        return """
+                ## %s (not parsed)
+                Depth: %s
+                Reason: %s
+                """.formatted(this.getUrl(), this.getDepth(), this.getReason());
+    }
+}
@@ -0,0 +1,159 @@
+package org.aau.crawler.visited;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class CompactVisitedUrlIndex implements VisitedUrlIndex {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final int MAX_SEGMENT_CAPACITY = 1 << 26;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private static final long EMPTY = 0L;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final AtomicInteger size = new AtomicInteger(0);
+
+    public CompactVisitedUrlIndex(int expectedUrls) {
+        if (expectedUrls < 1) {
+            throw new IllegalArgumentException("Expected number of URLs cannot be less than 1");
+        }
+        int segmentCapacity = segmentCapacityFor(expectedUrls);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    @Override
+    public boolean contains(String url) {
+        if (url == null) {
+            return false;
+        }
+        long fingerprint = fingerprint(url);
+        return segmentFor(fingerprint).contains(fingerprint);
+    }
+
+    @Override
+    public boolean claim(String url) {
+        if (url == null) {
+            return false;
+        }
+        long fingerprint = fingerprint(url);
+        if (!segmentFor(fingerprint).add(fingerprint)) {
+            return false;
+        }
+        size.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    static long fingerprint(String url) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < url.length(); i++) {
+            hash ^= url.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash = mix(hash);
+        return hash == EMPTY ? 1L : hash;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static int segmentCapacityFor(int expectedUrls) {
+        long perSegment = (long) Math.ceil(expectedUrls / (double) SEGMENT_COUNT / MAX_LOAD_FACTOR);
+        long capacity = MIN_SEGMENT_CAPACITY;
+        while (capacity < perSegment && capacity < MAX_SEGMENT_CAPACITY) {
+            capacity <<= 1;
+        }
+        return (int) capacity;
+    }
+
+    private Segment segmentFor(long fingerprint) {
+        return segments[(int) (fingerprint >>> (Long.SIZE - SEGMENT_BITS))];
+    }
+
+    private static final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] fingerprints;
+        private int size;
+
+        private Segment(int capacity) {
+            this.fingerprints = new long[capacity];
+        }
+
+        private boolean contains(long fingerprint) {
+            lock.lock();
+            try {
+                return findSlot(fingerprints, fingerprint) >= 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean add(long fingerprint) {
+            lock.lock();
+            try {
+                if (findSlot(fingerprints, fingerprint) >= 0) {
+                    return false;
+                }
+                if (size + 1 > fingerprints.length * MAX_LOAD_FACTOR) {
+                    grow();
+                }
+                insert(fingerprints, fingerprint);
+                size++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void grow() {
+            if (fingerprints.length >= MAX_SEGMENT_CAPACITY) {
+                throw new IllegalStateException("Visited URL index segment is full");
+            }
+            long[] resized = new long[fingerprints.length << 1];
+            for (long fingerprint : fingerprints) {
+                if (fingerprint != EMPTY) {
+                    insert(resized, fingerprint);
+                }
+            }
+            fingerprints = resized;
+        }
+
+        private static int findSlot(long[] table, long fingerprint) {
+            int mask = table.length - 1;
+            int slot = (int) fingerprint & mask;
+            while (table[slot] != EMPTY) {
+                if (table[slot] == fingerprint) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static void insert(long[] table, long fingerprint) {
+            int mask = table.length - 1;
+            int slot = (int) fingerprint & mask;
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package org.aau.crawler.visited;
+
+public interface VisitedUrlIndex {
+
+    boolean contains(String url);
+
+    boolean claim(String url);
+
+    int size();
+}
@@ -0,0 +1,24 @@
+package org.aau.crawler.visited;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class VisitedUrlIndexImpl implements VisitedUrlIndex {
+
+    private final Set<String> urls = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean contains(String url) {
+        return url != null && urls.contains(url);
+    }
+
+    @Override
+    public boolean claim(String url) {
+        return url != null && urls.add(url);
+    }
+
+    @Override
+    public int size() {
+        return urls.size();
+    }
+}
@@ -6,4 +6,6 @@ public interface Document {
     String text();
 
     String title();
+
+    void traverse(ElementVisitor visitor);
 }
@@ -1,6 +1,7 @@
 package org.aau.html;
 
 import org.jsoup.Jsoup;
+import org.jsoup.select.NodeTraversor;
 
 public class DocumentAdapter implements Document {
     private final org.jsoup.nodes.Document document;
@@ -27,4 +28,14 @@ public class DocumentAdapter implements Document {
     public String title() {
         return document.title();
     }
+
+    @Override
+    public void traverse(ElementVisitor visitor) {
+        ElementCursor cursor = new ElementCursor();
+        NodeTraversor.traverse((node, depth) -> {
+            if (node instanceof org.jsoup.nodes.Element element) {
+                visitor.visit(cursor.moveTo(element));
+            }
+        }, document);
+    }
 }
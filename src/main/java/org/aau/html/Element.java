@@ -3,6 +3,8 @@ package org.aau.html;
 public interface Element {
     String attr(String key);
 
+    boolean hasAttr(String key);
+
     String text();
 
     Elements select(String cssQuery);
@@ -12,6 +12,11 @@ public class ElementAdapter implements Element {
         return element.attr(key);
     }
 
+    @Override
+    public boolean hasAttr(String key) {
+        return element.hasAttr(key);
+    }
+
     @Override
     public String text() {
         return element.text();
@@ -0,0 +1,35 @@
+package org.aau.html;
+
+class ElementCursor implements Element {
+    private org.jsoup.nodes.Element element;
+
+    ElementCursor moveTo(org.jsoup.nodes.Element element) {
+        this.element = element;
+        return this;
+    }
+
+    @Override
+    public String attr(String key) {
+        return element.attr(key);
+    }
+
+    @Override
+    public boolean hasAttr(String key) {
+        return element.hasAttr(key);
+    }
+
+    @Override
+    public String text() {
+        return element.text();
+    }
+
+    @Override
+    public Elements select(String cssQuery) {
+        return new ElementsAdapter(element.select(cssQuery));
+    }
+
+    @Override
+    public String tagName() {
+        return element.tagName();
+    }
+}
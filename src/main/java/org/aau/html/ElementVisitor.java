@@ -0,0 +1,6 @@
+package org.aau.html;
+
+@FunctionalInterface
+public interface ElementVisitor {
+    void visit(Element element);
+}
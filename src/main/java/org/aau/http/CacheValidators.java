@@ -0,0 +1,14 @@
+package org.aau.http;
+
+public record CacheValidators(String etag, String lastModified) {
+
+    public static final CacheValidators NONE = new CacheValidators(null, null);
+
+    public static CacheValidators of(FetchResult result) {
+        return new CacheValidators(result.header("ETag").orElse(null), result.header("Last-Modified").orElse(null));
+    }
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+}
@@ -0,0 +1,50 @@
+package org.aau.http;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public record FetchResult(int statusCode, Map<String, List<String>> headers, String body, String unparsedReason) {
+
+    public static final int STATUS_UNAVAILABLE = -1;
+    public static final int STATUS_NOT_MODIFIED = 304;
+
+    public FetchResult {
+        headers = headers == null ? Map.of() : headers;
+    }
+
+    public FetchResult(int statusCode, Map<String, List<String>> headers, String body) {
+        this(statusCode, headers, body, null);
+    }
+
+    public static FetchResult unavailable() {
+        return new FetchResult(STATUS_UNAVAILABLE, Map.of(), null);
+    }
+
+    public static FetchResult unparsed(int statusCode, Map<String, List<String>> headers, String reason) {
+        return new FetchResult(statusCode, headers, null, reason);
+    }
+
+    public boolean isSuccessful() {
+        return statusCode >= 0 && statusCode < 400;
+    }
+
+    public boolean isNotModified() {
+        return statusCode == STATUS_NOT_MODIFIED;
+    }
+
+    public boolean isUnparsed() {
+        return unparsedReason != null;
+    }
+
+    public Optional<String> header(String name) {
+        return headers.entrySet().stream()
+                .filter(header -> header.getKey().equalsIgnoreCase(name))
+                .flatMap(header -> header.getValue().stream())
+                .findFirst();
+    }
+
+    public FetchResult withBody(String body) {
+        return new FetchResult(statusCode, headers, body, unparsedReason);
+    }
+}
@@ -0,0 +1,158 @@
+package org.aau.http;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+public class GatedBodyHandler implements HttpResponse.BodyHandler<FetchResult> {
+
+    private static final Set<String> HTML_CONTENT_TYPES = Set.of("text/html", "application/xhtml+xml");
+    private static final String CHARSET_PARAMETER = "charset=";
+
+    private final long maxBodyBytes;
+
+    public GatedBodyHandler(long maxBodyBytes) {
+        if (maxBodyBytes < 1) {
+            throw new IllegalArgumentException("Maximum body size cannot be less than 1 byte");
+        }
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    public HttpResponse.BodySubscriber<FetchResult> apply(HttpResponse.ResponseInfo responseInfo) {
+        int statusCode = responseInfo.statusCode();
+        Map<String, List<String>> headers = responseInfo.headers().map();
+        if (statusCode >= 400 || statusCode == FetchResult.STATUS_NOT_MODIFIED) {
+            return new SkippingBodySubscriber(new FetchResult(statusCode, headers, null));
+        }
+        Optional<String> contentType = responseInfo.headers().firstValue("Content-Type");
+        if (contentType.isPresent() && !isHtml(contentType.get())) {
+            return new SkippingBodySubscriber(FetchResult.unparsed(statusCode, headers, "content type %s".formatted(contentType.get())));
+        }
+        OptionalLong contentLength = responseInfo.headers().firstValueAsLong("Content-Length");
+        if (contentLength.isPresent() && contentLength.getAsLong() > maxBodyBytes) {
+            return new SkippingBodySubscriber(FetchResult.unparsed(statusCode, headers, "content length %d exceeds %d bytes".formatted(contentLength.getAsLong(), maxBodyBytes)));
+        }
+        return new CappedBodySubscriber(statusCode, headers, charsetOf(contentType.orElse("")), maxBodyBytes);
+    }
+
+    static boolean isHtml(String contentType) {
+        int parametersStart = contentType.indexOf(';');
+        String mediaType = parametersStart < 0 ? contentType : contentType.substring(0, parametersStart);
+        return HTML_CONTENT_TYPES.contains(mediaType.trim().toLowerCase(Locale.ROOT));
+    }
+
+    static Charset charsetOf(String contentType) {
+        int charsetStart = contentType.toLowerCase(Locale.ROOT).indexOf(CHARSET_PARAMETER);
+        if (charsetStart < 0) {
+            return StandardCharsets.UTF_8;
+        }
+        String charset = contentType.substring(charsetStart + CHARSET_PARAMETER.length());
+        int charsetEnd = charset.indexOf(';');
+        charset = (charsetEnd < 0 ? charset : charset.substring(0, charsetEnd)).trim().replace("\"", "");
+        try {
+            return Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static class SkippingBodySubscriber implements HttpResponse.BodySubscriber<FetchResult> {
+
+        private final CompletableFuture<FetchResult> body;
+
+        SkippingBodySubscriber(FetchResult result) {
+            this.body = CompletableFuture.completedFuture(result);
+        }
+
+        @Override
+        public CompletionStage<FetchResult> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private static class CappedBodySubscriber implements HttpResponse.BodySubscriber<FetchResult> {
+
+        private final CompletableFuture<FetchResult> body = new CompletableFuture<>();
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final int statusCode;
+        private final Map<String, List<String>> headers;
+        private final Charset charset;
+        private final long maxBodyBytes;
+        private Flow.Subscription subscription;
+
+        CappedBodySubscriber(int statusCode, Map<String, List<String>> headers, Charset charset, long maxBodyBytes) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.charset = charset;
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public CompletionStage<FetchResult> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer buffer : buffers) {
+                if (content.size() + (long) buffer.remaining() > maxBodyBytes) {
+                    subscription.cancel();
+                    body.complete(FetchResult.unparsed(statusCode, headers, "body exceeds %d bytes".formatted(maxBodyBytes)));
+                    return;
+                }
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                content.writeBytes(bytes);
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(new FetchResult(statusCode, headers, content.toString(charset)));
+        }
+    }
+}
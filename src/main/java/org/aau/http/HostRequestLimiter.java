@@ -0,0 +1,83 @@
+package org.aau.http;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+public class HostRequestLimiter {
+
+    private final int maxRequestsPerHost;
+    private final Map<String, HostRequests> hosts = new ConcurrentHashMap<>();
+
+    public HostRequestLimiter(int maxRequestsPerHost) {
+        if (maxRequestsPerHost < 1) {
+            throw new IllegalArgumentException("Maximum requests per host cannot be less than 1");
+        }
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
+
+    public CompletableFuture<Void> acquireAsync(String host) {
+        HostRequests requests = hosts.computeIfAbsent(host, ignored -> new HostRequests());
+        synchronized (requests) {
+            if (requests.inUse < maxRequestsPerHost) {
+                requests.inUse++;
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<Void> waiter = new CompletableFuture<>();
+            requests.waiters.addLast(waiter);
+            return waiter;
+        }
+    }
+
+    public void acquire(String host) throws InterruptedException {
+        CompletableFuture<Void> request = acquireAsync(host);
+        try {
+            request.get();
+        } catch (InterruptedException e) {
+            if (!request.cancel(false)) {
+                release(host);
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unexpected error while waiting to send a request to %s".formatted(host), e.getCause());
+        }
+    }
+
+    public void release(String host) {
+        HostRequests requests = hosts.get(host);
+        if (requests == null) {
+            return;
+        }
+        while (true) {
+            CompletableFuture<Void> waiter;
+            synchronized (requests) {
+                waiter = requests.waiters.pollFirst();
+                if (waiter == null) {
+                    requests.inUse = Math.max(0, requests.inUse - 1);
+                    return;
+                }
+            }
+            if (waiter.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    int requestsInFlight(String host) {
+        HostRequests requests = hosts.get(host);
+        if (requests == null) {
+            return 0;
+        }
+        synchronized (requests) {
+            return requests.inUse;
+        }
+    }
+
+    private static final class HostRequests {
+        private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private int inUse;
+    }
+}
@@ -1,8 +1,34 @@
 package org.aau.http;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface HttpClient {
 
     boolean isPageAvailable(String url);
 
+    FetchResult checkLink(String url);
+
+    FetchResult fetch(String url);
+
+    default FetchResult fetch(String url, CacheValidators validators) {
+        return fetch(url);
+    }
+
+    default CompletableFuture<FetchResult> fetchAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(fetch(url));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    default CompletableFuture<FetchResult> fetchAsync(String url, CacheValidators validators) {
+        try {
+            return CompletableFuture.completedFuture(fetch(url, validators));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     void close();
 }
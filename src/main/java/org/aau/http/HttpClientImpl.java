@@ -1,41 +1,155 @@
 package org.aau.http;
 
+import org.aau.config.HttpClientOptions;
+import org.aau.util.UrlUtil;
+
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class HttpClientImpl implements HttpClient {
 
+    private final HttpClientOptions options;
+    private final ExecutorService executor;
+    private final HostRequestLimiter requestLimiter;
+    private final GatedBodyHandler bodyHandler;
     private final java.net.http.HttpClient httpClient;
 
     public HttpClientImpl() {
+        this(HttpClientOptions.defaults());
+    }
+
+    public HttpClientImpl(HttpClientOptions options) {
+        this.options = options;
+        this.executor = options.usesDedicatedExecutor() ? createExecutor(options.executorThreads()) : null;
+        this.requestLimiter = options.limitsRequestsPerHost() ? new HostRequestLimiter(options.maxRequestsPerHost()) : null;
+        this.bodyHandler = new GatedBodyHandler(options.maxBodyBytes());
         this.httpClient = createHttpClient();
     }
 
+    protected ExecutorService createExecutor(int threads) {
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("http-client-", 0).daemon().factory());
+    }
+
     protected java.net.http.HttpClient createHttpClient() {
-        return java.net.http.HttpClient.newBuilder()
-                .followRedirects(java.net.http.HttpClient.Redirect.NORMAL)
-                .build();
+        var builder = java.net.http.HttpClient.newBuilder()
+                .version(options.version())
+                .connectTimeout(options.connectTimeout())
+                .followRedirects(java.net.http.HttpClient.Redirect.NORMAL);
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest.Builder newRequest(String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(options.requestTimeout());
+    }
+
+    private HttpRequest newConditionalRequest(String url, CacheValidators validators) {
+        var request = newRequest(url).GET();
+        if (validators.etag() != null) {
+            request.header("If-None-Match", validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            request.header("If-Modified-Since", validators.lastModified());
+        }
+        return request.build();
     }
 
     @Override
     public boolean isPageAvailable(String url) {
+        return checkLink(url).isSuccessful();
+    }
+
+    @Override
+    public FetchResult checkLink(String url) {
         try {
-            var request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
+            var request = newRequest(url)
                     .method("HEAD", HttpRequest.BodyPublishers.noBody())
                     .build();
 
-            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
-            int statusCode = response.statusCode();
-            return statusCode < 400;
+            HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
+            return new FetchResult(response.statusCode(), response.headers().map(), null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FetchResult.unavailable();
+        } catch (Exception e) {
+            return FetchResult.unavailable();
+        }
+    }
+
+    @Override
+    public FetchResult fetch(String url) {
+        return fetch(url, CacheValidators.NONE);
+    }
+
+    @Override
+    public FetchResult fetch(String url, CacheValidators validators) {
+        try {
+            return send(newConditionalRequest(url, validators), bodyHandler).body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FetchResult.unavailable();
         } catch (Exception e) {
-            return false;
+            return FetchResult.unavailable();
         }
     }
 
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(String url) {
+        return fetchAsync(url, CacheValidators.NONE);
+    }
+
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(String url, CacheValidators validators) {
+        try {
+            return sendAsync(newConditionalRequest(url, validators), bodyHandler)
+                    .thenApply(HttpResponse::body);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws Exception {
+        if (requestLimiter == null) {
+            return httpClient.send(request, bodyHandler);
+        }
+        String host = UrlUtil.getHost(request.uri().toString());
+        requestLimiter.acquire(host);
+        try {
+            return httpClient.send(request, bodyHandler);
+        } finally {
+            requestLimiter.release(host);
+        }
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (requestLimiter == null) {
+            return httpClient.sendAsync(request, bodyHandler);
+        }
+        String host = UrlUtil.getHost(request.uri().toString());
+        return requestLimiter.acquireAsync(host).thenCompose(ignored -> {
+            CompletableFuture<HttpResponse<T>> response;
+            try {
+                response = httpClient.sendAsync(request, bodyHandler);
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            return response.whenComplete((result, failure) -> requestLimiter.release(host));
+        });
+    }
+
     @Override
     public void close() {
         httpClient.close();
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 }
@@ -0,0 +1,45 @@
+package org.aau.http;
+
+import java.util.concurrent.CompletableFuture;
+
+public class SharedHttpClient implements HttpClient {
+
+    private final HttpClient httpClient;
+
+    public SharedHttpClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public boolean isPageAvailable(String url) {
+        return httpClient.isPageAvailable(url);
+    }
+
+    @Override
+    public FetchResult checkLink(String url) {
+        return httpClient.checkLink(url);
+    }
+
+    @Override
+    public FetchResult fetch(String url) {
+        return httpClient.fetch(url);
+    }
+
+    @Override
+    public FetchResult fetch(String url, CacheValidators validators) {
+        return httpClient.fetch(url, validators);
+    }
+
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(String url) {
+        return httpClient.fetchAsync(url);
+    }
+
+    @Override
+    public CompletableFuture<FetchResult> fetchAsync(String url, CacheValidators validators) {
+        return httpClient.fetchAsync(url, validators);
+    }
+
+    @Override
+    public void close() {}
+}
@@ -1,27 +1,36 @@
 package org.aau.runner;
 
+import org.aau.config.ReportMode;
+import org.aau.config.ReportOptions;
 import org.aau.config.WebCrawlerConfiguration;
 import org.aau.crawler.WebCrawler;
 import org.aau.crawler.WebCrawlerImpl;
+import org.aau.writer.IncrementalMarkdownWriter;
 import org.aau.writer.MarkdownWriter;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.OffsetDateTime;
-import java.util.TreeSet;
 
 public class WebCrawlerRunner {
 
+    private final ReportOptions reportOptions;
+    private final String outputDir;
     private final WebCrawler crawler;
     private final MarkdownWriter writer;
 
     public WebCrawlerRunner(WebCrawlerConfiguration configuration) {
+        this.reportOptions = configuration.reportOptions();
+        this.outputDir = configuration.outputDir();
         this.crawler = createCrawler(configuration);
         this.writer = createMarkdownWriter(configuration.outputDir());
     }
 
     public Path run() throws RuntimeException {
         try {
+            if (reportOptions.mode() == ReportMode.INCREMENTAL) {
+                return crawlWithIncrementalReport(OffsetDateTime.now());
+            }
             crawler.start();
             return writeSortedCrawlerResultsToFile(crawler, OffsetDateTime.now());
         } catch (IOException e) {
@@ -30,8 +39,20 @@ public class WebCrawlerRunner {
         }
     }
 
+    protected Path crawlWithIncrementalReport(OffsetDateTime timestamp) throws IOException {
+        try (IncrementalMarkdownWriter reportWriter = createIncrementalMarkdownWriter(outputDir, timestamp)) {
+            System.out.printf("Appending crawl results to report %s%n", reportWriter.getPath());
+            crawler.setResultSink(reportWriter);
+            crawler.start();
+            return reportWriter.finish(crawler.getErrors());
+        }
+    }
+
     protected Path writeSortedCrawlerResultsToFile(WebCrawler crawler, OffsetDateTime timestamp) throws IOException {
-        return writer.writeResultsToFile(new TreeSet<>(crawler.getCrawledLinks()), crawler.getErrors(), timestamp);
+        if (reportOptions.mode() == ReportMode.UNSORTED) {
+            return writer.writeResultsToFile(crawler.getCrawledLinks(), crawler.getErrors(), timestamp);
+        }
+        return writer.writeSortedResultsToFile(crawler.getCrawledLinks(), crawler.getErrors(), timestamp);
     }
 
     protected WebCrawler createCrawler(WebCrawlerConfiguration configuration) {
@@ -39,6 +60,10 @@ public class WebCrawlerRunner {
     }
 
     protected MarkdownWriter createMarkdownWriter(String outputDir) {
-        return new MarkdownWriter(outputDir);
+        return new MarkdownWriter(outputDir, reportOptions.maxEntriesInMemory());
+    }
+
+    protected IncrementalMarkdownWriter createIncrementalMarkdownWriter(String outputDir, OffsetDateTime timestamp) throws IOException {
+        return new IncrementalMarkdownWriter(outputDir, timestamp);
     }
 }
@@ -9,4 +9,31 @@ public final class StringUtil {
     public static boolean isEmpty(String str) {
         return str == null || str.trim().isEmpty();
     }
+
+    public static String normalizeWhitespace(String str) {
+        StringBuilder normalized = new StringBuilder(str.length());
+        boolean lastWasWhitespace = false;
+        for (int i = 0; i < str.length(); ) {
+            int codePoint = str.codePointAt(i);
+            if (isWhitespace(codePoint)) {
+                if (!lastWasWhitespace) {
+                    normalized.append(' ');
+                    lastWasWhitespace = true;
+                }
+            } else if (!isInvisible(codePoint)) {
+                normalized.appendCodePoint(codePoint);
+                lastWasWhitespace = false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isWhitespace(int codePoint) {
+        return codePoint == ' ' || codePoint == '\t' || codePoint == '\n' || codePoint == '\f' || codePoint == '\r' || codePoint == '\u00A0';
+    }
+
+    private static boolean isInvisible(int codePoint) {
+        return codePoint == '\u200B' || codePoint == '\u00AD';
+    }
 }
@@ -0,0 +1,71 @@
+package org.aau.util;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class UrlUtil {
+
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final Pattern CONTROL_CHARACTERS = Pattern.compile("[\\x00-\\x1f]*");
+    private static final Pattern EXTRA_DOT_SEGMENTS = Pattern.compile("^/((\\.{1,2}/)+)");
+    private static final Pattern URI_SCHEME = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+-.]*:");
+
+    private UrlUtil() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static String getHost(String url) {
+        if (StringUtil.isEmpty(url)) {
+            return "";
+        }
+        int schemeEnd = url.indexOf(SCHEME_SEPARATOR);
+        if (schemeEnd < 0) {
+            return "";
+        }
+        int authorityStart = schemeEnd + SCHEME_SEPARATOR.length();
+        int authorityEnd = authorityStart;
+        while (authorityEnd < url.length() && "/?#".indexOf(url.charAt(authorityEnd)) < 0) {
+            authorityEnd++;
+        }
+        int hostStart = url.lastIndexOf('@', authorityEnd - 1) + 1;
+        hostStart = Math.max(hostStart, authorityStart);
+        int hostEnd = authorityEnd;
+        if (hostStart < hostEnd && url.charAt(hostStart) == '[') {
+            int ipv6End = url.indexOf(']', hostStart);
+            hostEnd = ipv6End < 0 || ipv6End > authorityEnd ? authorityEnd : ipv6End + 1;
+        } else {
+            int portStart = url.indexOf(':', hostStart);
+            if (portStart >= 0 && portStart < authorityEnd) {
+                hostEnd = portStart;
+            }
+        }
+        return url.substring(hostStart, hostEnd).toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("deprecation")
+    public static String resolve(String baseUrl, String relativeUrl) {
+        String base = CONTROL_CHARACTERS.matcher(baseUrl).replaceAll("");
+        String relative = CONTROL_CHARACTERS.matcher(relativeUrl).replaceAll("");
+        try {
+            URL baseLocation;
+            try {
+                baseLocation = new URL(base);
+            } catch (MalformedURLException e) {
+                return new URL(relative).toExternalForm();
+            }
+            if (relative.startsWith("?")) {
+                relative = baseLocation.getPath() + relative;
+            }
+            URL resolved = new URL(baseLocation, relative);
+            String file = EXTRA_DOT_SEGMENTS.matcher(resolved.getFile()).replaceFirst("/");
+            if (resolved.getRef() != null) {
+                file = file + "#" + resolved.getRef();
+            }
+            return new URL(resolved.getProtocol(), resolved.getHost(), resolved.getPort(), file).toExternalForm();
+        } catch (MalformedURLException e) {
+            return URI_SCHEME.matcher(relative).find() ? relative : "";
+        }
+    }
+}
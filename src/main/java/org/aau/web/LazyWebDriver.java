@@ -0,0 +1,55 @@
+package org.aau.web;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class LazyWebDriver implements WebDriver {
+
+    private final Supplier<WebDriver> webDriverFactory;
+    private final ReentrantLock creationLock = new ReentrantLock();
+    private volatile WebDriver webDriver;
+
+    public LazyWebDriver(Supplier<WebDriver> webDriverFactory) {
+        this.webDriverFactory = webDriverFactory;
+    }
+
+    @Override
+    public String getPageContent(String url) {
+        return getOrCreateWebDriver().getPageContent(url);
+    }
+
+    private WebDriver getOrCreateWebDriver() {
+        WebDriver current = webDriver;
+        if (current == null) {
+            creationLock.lock();
+            try {
+                current = webDriver;
+                if (current == null) {
+                    current = webDriverFactory.get();
+                    webDriver = current;
+                }
+            } finally {
+                creationLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public boolean isHealthy() {
+        WebDriver current = webDriver;
+        return current == null || current.isHealthy();
+    }
+
+    public boolean isStarted() {
+        return webDriver != null;
+    }
+
+    @Override
+    public void close() {
+        WebDriver current = webDriver;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
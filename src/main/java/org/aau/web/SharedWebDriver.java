@@ -0,0 +1,23 @@
+package org.aau.web;
+
+public class SharedWebDriver implements WebDriver {
+
+    private final WebDriver webDriver;
+
+    public SharedWebDriver(WebDriver webDriver) {
+        this.webDriver = webDriver;
+    }
+
+    @Override
+    public String getPageContent(String url) {
+        return webDriver.getPageContent(url);
+    }
+
+    @Override
+    public boolean isHealthy() {
+        return webDriver.isHealthy();
+    }
+
+    @Override
+    public void close() {}
+}
@@ -4,6 +4,10 @@ public interface WebDriver {
 
     String getPageContent(String url);
 
+    default boolean isHealthy() {
+        return true;
+    }
+
     void close();
 
 }
@@ -43,6 +43,17 @@ public class WebDriverImpl implements WebDriver {
         return webDriver.getPageSource();
     }
 
+    @Override
+    public boolean isHealthy() {
+        try {
+            webDriver.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            System.err.printf("Browser session is no longer responsive: %s%n", e.getMessage());
+            return false;
+        }
+    }
+
     @Override
     public void close() {
         webDriver.close();
@@ -0,0 +1,131 @@
+package org.aau.web;
+
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+public class WebDriverPool implements WebDriver {
+
+    private final Supplier<WebDriver> webDriverFactory;
+    private final int maxPagesPerSession;
+    private final Semaphore availableSessions;
+    private final BlockingDeque<PooledSession> idleSessions = new LinkedBlockingDeque<>();
+    private final Set<PooledSession> openSessions = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    public WebDriverPool(Supplier<WebDriver> webDriverFactory, int size, int maxPagesPerSession) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Browser pool size cannot be less than 1");
+        }
+        if (maxPagesPerSession < 1) {
+            throw new IllegalArgumentException("Maximum pages per browser session cannot be less than 1");
+        }
+        this.webDriverFactory = webDriverFactory;
+        this.maxPagesPerSession = maxPagesPerSession;
+        this.availableSessions = new Semaphore(size, true);
+    }
+
+    @Override
+    public String getPageContent(String url) {
+        acquireSession();
+        PooledSession session = null;
+        try {
+            session = borrowSession();
+            String pageContent = session.webDriver().getPageContent(url);
+            session.pagesLoaded++;
+            return pageContent;
+        } catch (RuntimeException e) {
+            if (session != null && !session.webDriver().isHealthy()) {
+                discardSession(session);
+                session = null;
+            }
+            throw e;
+        } finally {
+            if (session != null) {
+                releaseSession(session);
+            }
+            availableSessions.release();
+        }
+    }
+
+    private void acquireSession() {
+        if (closed) {
+            throw new IllegalStateException("Browser pool is closed");
+        }
+        try {
+            availableSessions.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+    }
+
+    private PooledSession borrowSession() {
+        PooledSession session = idleSessions.pollFirst();
+        while (session != null && !session.webDriver().isHealthy()) {
+            discardSession(session);
+            session = idleSessions.pollFirst();
+        }
+        if (session != null) {
+            return session;
+        }
+        System.out.printf("Starting browser session, %d already open%n", openSessions.size());
+        PooledSession newSession = new PooledSession(webDriverFactory.get());
+        openSessions.add(newSession);
+        return newSession;
+    }
+
+    private void releaseSession(PooledSession session) {
+        if (closed) {
+            discardSession(session);
+        } else if (session.pagesLoaded >= maxPagesPerSession) {
+            System.out.printf("Recycling browser session after %d pages%n", session.pagesLoaded);
+            discardSession(session);
+        } else {
+            idleSessions.offerFirst(session);
+        }
+    }
+
+    private void discardSession(PooledSession session) {
+        openSessions.remove(session);
+        try {
+            session.webDriver().close();
+        } catch (RuntimeException e) {
+            System.err.printf("Error while closing browser session: %s%n", e.getMessage());
+        }
+    }
+
+    int openSessionCount() {
+        return openSessions.size();
+    }
+
+    int idleSessionCount() {
+        return idleSessions.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledSession session;
+        while ((session = idleSessions.pollFirst()) != null) {
+            discardSession(session);
+        }
+    }
+
+    private static final class PooledSession {
+
+        private final WebDriver webDriver;
+        private int pagesLoaded;
+
+        private PooledSession(WebDriver webDriver) {
+            this.webDriver = webDriver;
+        }
+
+        private WebDriver webDriver() {
+            return webDriver;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.aau.writer;
+
+import org.aau.crawler.result.Link;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public class ExternalLinkSorter {
+
+    static final int MAX_MERGE_FAN_IN = 64;
+
+    private static final Comparator<SortedRun> RUN_ORDER = Comparator
+            .comparing((SortedRun run) -> run.url)
+            .thenComparingInt(run -> run.depth);
+
+    private final int maxEntriesInMemory;
+
+    public ExternalLinkSorter(int maxEntriesInMemory) {
+        if (maxEntriesInMemory < 1) {
+            throw new IllegalArgumentException("Maximum entries in memory cannot be less than 1");
+        }
+        this.maxEntriesInMemory = maxEntriesInMemory;
+    }
+
+    public void sort(Collection<? extends Link> links, MarkdownConsumer consumer) throws IOException {
+        List<Link> chunk = new ArrayList<>(Math.min(links.size(), maxEntriesInMemory));
+        List<Path> runs = new ArrayList<>();
+        try {
+            for (Link link : links) {
+                chunk.add(link);
+                if (chunk.size() >= maxEntriesInMemory) {
+                    runs.add(spill(chunk));
+                    chunk.clear();
+                }
+            }
+            if (runs.isEmpty()) {
+                chunk.sort(null);
+                for (Link link : chunk) {
+                    consumer.accept(link.toMarkdownString());
+                }
+                return;
+            }
+            if (!chunk.isEmpty()) {
+                runs.add(spill(chunk));
+                chunk.clear();
+            }
+            System.out.printf("Merging %d sorted report runs%n", runs.size());
+            while (runs.size() > MAX_MERGE_FAN_IN) {
+                runs = mergeIntoRuns(runs);
+            }
+            merge(runs, consumer);
+        } finally {
+            deleteRuns(runs);
+        }
+    }
+
+    private Path spill(List<Link> chunk) throws IOException {
+        chunk.sort(null);
+        Path run = Files.createTempFile("crawl-report-", ".run");
+        try (DataOutputStream output = openRunForWriting(run)) {
+            for (Link link : chunk) {
+                writeEntry(output, link.getUrl(), link.getDepth(), link.toMarkdownString());
+            }
+        }
+        return run;
+    }
+
+    private List<Path> mergeIntoRuns(List<Path> runs) throws IOException {
+        List<Path> mergedRuns = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i += MAX_MERGE_FAN_IN) {
+                List<Path> group = runs.subList(i, Math.min(i + MAX_MERGE_FAN_IN, runs.size()));
+                Path mergedRun = Files.createTempFile("crawl-report-", ".run");
+                mergedRuns.add(mergedRun);
+                try (DataOutputStream output = openRunForWriting(mergedRun)) {
+                    mergeEntries(group, run -> writeEntry(output, run.url, run.depth, run.markdown));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteRuns(mergedRuns);
+            throw e;
+        }
+        deleteRuns(runs);
+        return mergedRuns;
+    }
+
+    private void merge(List<Path> runs, MarkdownConsumer consumer) throws IOException {
+        mergeEntries(runs, run -> consumer.accept(run.markdown));
+    }
+
+    private void mergeEntries(List<Path> runs, EntryConsumer consumer) throws IOException {
+        PriorityQueue<SortedRun> queue = new PriorityQueue<>(runs.size(), RUN_ORDER);
+        List<SortedRun> openRuns = new ArrayList<>(runs.size());
+        try {
+            for (Path run : runs) {
+                SortedRun sortedRun = new SortedRun(run);
+                openRuns.add(sortedRun);
+                if (sortedRun.advance()) {
+                    queue.add(sortedRun);
+                }
+            }
+            while (!queue.isEmpty()) {
+                SortedRun smallest = queue.poll();
+                consumer.accept(smallest);
+                if (smallest.advance()) {
+                    queue.add(smallest);
+                }
+            }
+        } finally {
+            for (SortedRun openRun : openRuns) {
+                openRun.close();
+            }
+        }
+    }
+
+    private static DataOutputStream openRunForWriting(Path run) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)));
+    }
+
+    private static void writeEntry(DataOutputStream output, String url, int depth, String markdown) throws IOException {
+        writeString(output, url);
+        output.writeInt(depth);
+        writeString(output, markdown);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void deleteRuns(List<Path> runs) {
+        for (Path run : runs) {
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException e) {
+                System.err.printf("Could not delete temporary report run %s: %s%n", run, e.getMessage());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface MarkdownConsumer {
+        void accept(String markdown) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface EntryConsumer {
+        void accept(SortedRun run) throws IOException;
+    }
+
+    private static final class SortedRun implements AutoCloseable {
+
+        private final DataInputStream input;
+        private String url;
+        private int depth;
+        private String markdown;
+
+        private SortedRun(Path run) throws IOException {
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+        }
+
+        private boolean advance() throws IOException {
+            try {
+                url = readString(input);
+            } catch (EOFException e) {
+                return false;
+            }
+            depth = input.readInt();
+            markdown = readString(input);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
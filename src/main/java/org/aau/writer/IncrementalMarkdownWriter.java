@@ -0,0 +1,87 @@
+package org.aau.writer;
+
+import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.CrawlResultSink;
+import org.aau.crawler.result.Link;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class IncrementalMarkdownWriter implements CrawlResultSink, AutoCloseable {
+
+    private final Path path;
+    private final BufferedWriter writer;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private IOException writeFailure;
+    private long writtenLinks;
+    private boolean closed;
+
+    public IncrementalMarkdownWriter(String outputDir, OffsetDateTime timestamp) throws IOException {
+        this.path = MarkdownWriter.createReportPath(outputDir, timestamp);
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        MarkdownWriter.writeHeader(writer, timestamp);
+        writer.flush();
+    }
+
+    @Override
+    public void accept(Link link) {
+        writeLock.lock();
+        try {
+            if (closed || writeFailure != null) {
+                return;
+            }
+            MarkdownWriter.writeLine(writer, link.toMarkdownString());
+            writer.flush();
+            writtenLinks++;
+        } catch (IOException e) {
+            System.err.printf("Error while appending %s to report %s: %s%n", link.getUrl(), path, e.getMessage());
+            writeFailure = e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean persistsResults() {
+        return true;
+    }
+
+    public Path finish(List<CrawlingError> errors) throws IOException {
+        writeLock.lock();
+        try {
+            if (writeFailure != null) {
+                throw writeFailure;
+            }
+            MarkdownWriter.writeErrors(writer, errors);
+            System.out.printf("Appended %d links to report %s%n", writtenLinks, path);
+            return path;
+        } finally {
+            writeLock.unlock();
+            close();
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                writer.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
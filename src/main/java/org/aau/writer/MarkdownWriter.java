@@ -1,42 +1,87 @@
 package org.aau.writer;
 
+import org.aau.config.ReportOptions;
 import org.aau.crawler.error.CrawlingError;
 import org.aau.crawler.result.Link;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
 public class MarkdownWriter {
 
     private final String outputDir;
+    private final ExternalLinkSorter linkSorter;
 
     public MarkdownWriter(String outputDir) {
+        this(outputDir, ReportOptions.DEFAULT_MAX_ENTRIES_IN_MEMORY);
+    }
+
+    public MarkdownWriter(String outputDir, int maxEntriesInMemory) {
         this.outputDir = outputDir;
+        this.linkSorter = new ExternalLinkSorter(maxEntriesInMemory);
+    }
+
+    public Path writeResultsToFile(Collection<Link> links, List<CrawlingError> errors, OffsetDateTime timestamp) throws IOException {
+        return writeReport(errors, timestamp, writer -> {
+            for (Link link : links) {
+                writeLine(writer, link.toMarkdownString());
+            }
+        });
+    }
+
+    public Path writeSortedResultsToFile(Collection<Link> links, List<CrawlingError> errors, OffsetDateTime timestamp) throws IOException {
+        return writeReport(errors, timestamp, writer -> linkSorter.sort(links, markdown -> writeLine(writer, markdown)));
+    }
+
+    private Path writeReport(List<CrawlingError> errors, OffsetDateTime timestamp, ReportSection linkSection) throws IOException {
+        Path path = createReportPath(outputDir, timestamp);
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeHeader(writer, timestamp);
+            linkSection.writeTo(writer);
+            writeErrors(writer, errors);
+        }
+        return path;
     }
 
-    public Path writeResultsToFile(Set<Link> links, List<CrawlingError> errors, OffsetDateTime timestamp) throws IOException {
+    static Path createReportPath(String outputDir, OffsetDateTime timestamp) throws IOException {
         String filename = "report-" + timestamp.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".md";
         Path path = Paths.get(outputDir, filename);
-        List<String> lines = new ArrayList<>();
-        lines.add("# Crawl Results\n");
-        lines.add("Timestamp: " + timestamp.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + "\n");
-        links.stream().map(Link::toMarkdownString).forEach(lines::add);
+        Files.createDirectories(path.getParent());
+        return path;
+    }
 
+    static void writeHeader(BufferedWriter writer, OffsetDateTime timestamp) throws IOException {
+        writeLine(writer, "# Crawl Results\n");
+        writeLine(writer, "Timestamp: " + timestamp.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")) + "\n");
+    }
+
+    static void writeErrors(BufferedWriter writer, List<CrawlingError> errors) throws IOException {
         if (errors != null && !errors.isEmpty()) {
-            lines.add("# Errors\n");
-            lines.add("Count: " + errors.size() + "\n");
-            lines.add("## Error Messages\n");
-            errors.stream().map(CrawlingError::toMarkdownString).forEach(lines::add);
+            writeLine(writer, "# Errors\n");
+            writeLine(writer, "Count: " + errors.size() + "\n");
+            writeLine(writer, "## Error Messages\n");
+            for (CrawlingError error : errors) {
+                writeLine(writer, error.toMarkdownString());
+            }
         }
-        Files.createDirectories(path.getParent());
-        return Files.write(path, lines, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    static void writeLine(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+    }
+
+    @FunctionalInterface
+    private interface ReportSection {
+        void writeTo(BufferedWriter writer) throws IOException;
     }
 }
@@ -0,0 +1,46 @@
+package org.aau.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandLineOptionsTest {
+
+    @Test
+    void parseShouldSeparatePositionalArgumentsAndOptions() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"http://example.com", "--executor=virtual", "2", "--verbose"});
+
+        assertEquals(List.of("http://example.com", "2"), options.positionalArguments());
+        assertEquals(Optional.of("virtual"), options.getOption("executor"));
+        assertTrue(options.hasOption("verbose"));
+        assertFalse(options.hasOption("unknown"));
+    }
+
+    @Test
+    void parseShouldKeepNullArgumentsAsPositional() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{null, "0"});
+
+        assertEquals(Arrays.asList(null, "0"), options.positionalArguments());
+    }
+
+    @Test
+    void getIntOptionShouldReturnDefaultIfOptionIsMissing() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"http://example.com"});
+
+        assertEquals(42, options.getIntOption("max-concurrency", 42));
+    }
+
+    @Test
+    void getIntOptionShouldThrowExceptionForInvalidNumber() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"--max-concurrency=many"});
+
+        assertThrows(NumberFormatException.class, () -> options.getIntOption("max-concurrency", 1));
+    }
+}
@@ -89,4 +89,28 @@ class DomainFilterTest {
         assertEquals(1, filter.getAllowedDomains().size());
         assertTrue(filter.getAllowedDomains().contains("example.com"));
     }
+
+    @Test
+    void isAllowedDomainShouldIgnoreCasePortAndUserInfo() {
+        assertTrue(domainFilter.isAllowedDomain("HTTPS://User@Sub.Example.COM:8443/path?query"));
+    }
+
+    @Test
+    void isAllowedDomainShouldNotMatchPartialLabels() {
+        assertFalse(domainFilter.isAllowedDomain("http://notexample.com"));
+        assertFalse(domainFilter.isAllowedDomain("http://example.com.evil.net"));
+        assertFalse(domainFilter.isAllowedDomain("http://com"));
+    }
+
+    @Test
+    void isAllowedDomainShouldMatchDeepSubdomainsAgainstManyDomains() {
+        Set<String> allowedDomains = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            allowedDomains.add("domain%d.internal".formatted(i));
+        }
+        DomainFilter filter = new DomainFilter(allowedDomains);
+
+        assertTrue(filter.isAllowedDomain("http://a.b.c.domain499.internal/page"));
+        assertFalse(filter.isAllowedDomain("http://a.b.c.domain500.internal/page"));
+    }
 }
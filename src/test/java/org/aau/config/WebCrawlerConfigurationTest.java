@@ -2,6 +2,9 @@ package org.aau.config;
 
 import org.junit.jupiter.api.Test;
 
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -60,4 +63,261 @@ class WebCrawlerConfigurationTest {
                 output.contains("allowedDomains = [test.org, example.com]")); // order is not guaranteed
         assertTrue(output.contains("outputDir = /data"));
     }
+
+    @Test
+    void testDefaultExecutorOptionsUsePlatformThreads() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertEquals(CrawlExecutorMode.PLATFORM_THREADS, config.executorOptions().mode());
+        assertEquals(4, config.executorOptions().maxConcurrentTasks());
+    }
+
+    @Test
+    void testWithExecutorOptions() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        ).withExecutorOptions(ExecutorOptions.virtualThreads(500));
+
+        assertTrue(config.executorOptions().usesVirtualThreads());
+        assertEquals(500, config.executorOptions().maxConcurrentTasks());
+        assertEquals(4, config.threadCount());
+    }
+
+    @Test
+    void testWithAsyncExecutorOptions() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        ).withExecutorOptions(ExecutorOptions.asyncFetches(1000));
+
+        assertTrue(config.executorOptions().usesAsyncFetches());
+        assertFalse(config.executorOptions().usesVirtualThreads());
+        assertEquals(1000, config.executorOptions().maxConcurrentTasks());
+    }
+
+    @Test
+    void testDefaultHttpClientOptions() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertEquals(HttpClient.Version.HTTP_2, config.httpClientOptions().version());
+        assertFalse(config.httpClientOptions().limitsRequestsPerHost());
+        assertFalse(config.httpClientOptions().usesDedicatedExecutor());
+    }
+
+    @Test
+    void testWithHttpClientOptions() {
+        HttpClientOptions httpClientOptions = new HttpClientOptions(HttpClient.Version.HTTP_1_1, Duration.ofSeconds(1), Duration.ofSeconds(5), 6, 4, 1024);
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        ).withHttpClientOptions(httpClientOptions);
+
+        assertEquals(httpClientOptions, config.httpClientOptions());
+        assertTrue(config.httpClientOptions().limitsRequestsPerHost());
+        assertTrue(config.toString().contains("httpClient = (version = HTTP_1_1, connectTimeout = 1000 ms, requestTimeout = 5000 ms, maxRequestsPerHost = 6, threads = 4, maxBodyBytes = 1024)"));
+    }
+
+    @Test
+    void testHttpClientOptionsRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> HttpClientOptions.defaults().withMaxRequestsPerHost(0));
+        assertThrows(IllegalArgumentException.class, () -> HttpClientOptions.defaults().withMaxBodyBytes(0));
+        assertThrows(IllegalArgumentException.class, () -> new HttpClientOptions(HttpClient.Version.HTTP_2, Duration.ZERO, Duration.ofSeconds(1), 1, 0, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new HttpClientOptions(null, Duration.ofSeconds(1), Duration.ofSeconds(1), 1, 0, 1024));
+    }
+
+    @Test
+    void testPageCacheIsDisabledByDefault() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertFalse(config.pageCacheOptions().isEnabled());
+        assertTrue(config.toString().contains("pageCache = disabled"));
+    }
+
+    @Test
+    void testWithPageCacheOptions() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        ).withPageCacheOptions(new PageCacheOptions(Path.of("cache")));
+
+        assertTrue(config.pageCacheOptions().isEnabled());
+        assertEquals(Path.of("cache"), config.pageCacheOptions().directory());
+    }
+
+    @Test
+    void testWithLinkStatusCacheOptions() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                4,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+        assertFalse(config.linkStatusCacheOptions().isEnabled());
+
+        config = config.withLinkStatusCacheOptions(new LinkStatusCacheOptions(Path.of("link-status.bin")));
+
+        assertTrue(config.linkStatusCacheOptions().isEnabled());
+        assertTrue(config.toString().contains("linkStatusCache = (file = link-status.bin, successTtl = 1440 min, clientErrorTtl = 360 min, serverErrorTtl = 15 min)"));
+    }
+
+    @Test
+    void testLinkStatusCacheTtlDependsOnOutcome() {
+        LinkStatusCacheOptions options = new LinkStatusCacheOptions(Path.of("link-status.bin"), Duration.ofHours(24), Duration.ofHours(6), Duration.ofMinutes(15));
+
+        assertEquals(Duration.ofHours(24), options.ttlFor(200));
+        assertEquals(Duration.ofHours(24), options.ttlFor(304));
+        assertEquals(Duration.ofHours(6), options.ttlFor(404));
+        assertEquals(Duration.ofMinutes(15), options.ttlFor(503));
+        assertEquals(Duration.ofMinutes(15), options.ttlFor(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LinkStatusCacheOptions(Path.of("link-status.bin"), Duration.ofHours(1), Duration.ofHours(-1), Duration.ZERO));
+    }
+
+    @Test
+    void testExecutorOptionsRejectInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> ExecutorOptions.virtualThreads(0));
+    }
+
+    @Test
+    void testFetchOptionsOnlyRenderPagesThatNeedItByDefault() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                1,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertEquals(FetchMode.AUTO, config.fetchOptions().mode());
+        assertEquals(FetchOptions.DEFAULT_RENDERING_MARKERS, config.fetchOptions().renderingMarkers());
+        assertFalse(config.fetchOptions().checkExternalLinks());
+    }
+
+    @Test
+    void testWithBrowserPoolOptions() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                16,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertEquals(BrowserPoolOptions.defaults(16), config.browserPoolOptions());
+        WebCrawlerConfiguration pooled = config.withBrowserPoolOptions(new BrowserPoolOptions(3, 50));
+        assertEquals(3, pooled.browserPoolOptions().size());
+        assertEquals(50, pooled.browserPoolOptions().maxPagesPerSession());
+        assertEquals(16, pooled.threadCount());
+    }
+
+    @Test
+    void testBrowserPoolOptionsRejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new BrowserPoolOptions(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BrowserPoolOptions(1, 0));
+    }
+
+    @Test
+    void testBrowserPoolOptionsDefaultToConcurrencyCappedAtProcessors() {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        assertEquals(1, BrowserPoolOptions.defaultSize(0));
+        assertEquals(1, BrowserPoolOptions.defaultSize(1));
+        assertEquals(processors, BrowserPoolOptions.defaultSize(processors));
+        assertEquals(processors, BrowserPoolOptions.defaultSize(processors * 4));
+    }
+
+    @Test
+    void testCheckpointOptionsAreDisabledByDefault() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                1,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertFalse(config.checkpointOptions().isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> new CheckpointOptions(null, true, 100));
+    }
+
+    @Test
+    void testWithVisitedIndexOptions() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                1,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertFalse(config.visitedIndexOptions().isCompact());
+        WebCrawlerConfiguration compact = config.withVisitedIndexOptions(VisitedIndexOptions.compact(1_000));
+        assertTrue(compact.visitedIndexOptions().isCompact());
+        assertEquals(1_000, compact.visitedIndexOptions().expectedUrls());
+        assertThrows(IllegalArgumentException.class, () -> VisitedIndexOptions.compact(0));
+    }
+
+    @Test
+    void testCanonicalizationIsDisabledByDefault() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                1,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertFalse(config.canonicalizationOptions().enabled());
+        CanonicalizationOptions canonicalization = config.withCanonicalizationOptions(CanonicalizationOptions.standard()).canonicalizationOptions();
+        assertTrue(canonicalization.enabled());
+        assertEquals(CanonicalizationOptions.DEFAULT_IGNORED_QUERY_PARAMETERS, canonicalization.ignoredQueryParameters());
+    }
+
+    @Test
+    void testPipelineOptionsAreInlineByDefault() {
+        WebCrawlerConfiguration config = new WebCrawlerConfiguration(
+                "http://example.com",
+                1,
+                1,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        );
+
+        assertFalse(config.pipelineOptions().isPipelined());
+        PipelineOptions pipelineOptions = config.withPipelineOptions(PipelineOptions.parseThreads(4)).pipelineOptions();
+        assertTrue(pipelineOptions.isPipelined());
+        assertEquals(8, pipelineOptions.parseQueueCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new PipelineOptions(-1, 0));
+    }
 }
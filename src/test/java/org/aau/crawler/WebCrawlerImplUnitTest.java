@@ -59,6 +59,7 @@ public class WebCrawlerImplUnitTest {
         assertEquals(1, errors.size());
         assertEquals(exception, errors.getFirst().cause());
         verify(webCrawler).shutdownExecutor();
+        verify(webCrawler).closeWebDriverPool();
     }
 
     @Test
@@ -1,6 +1,7 @@
 package org.aau.crawler.analyzer;
 
 import org.aau.crawler.parser.HtmlParser;
+import org.aau.crawler.parser.PageContent;
 import org.aau.crawler.result.WorkingLink;
 import org.junit.jupiter.api.Test;
 import java.util.Set;
@@ -20,8 +21,7 @@ public class PageAnalyzerImplTest {
         Set<String> mockLinks = Set.of("https://example.com/page");
         Set<String> mockHeadings = Set.of("# Title");
 
-        when(parserMock.extractLinks(any())).thenReturn(mockLinks);
-        when(parserMock.extractHeadings(any())).thenReturn(mockHeadings);
+        when(parserMock.extractContent(any())).thenReturn(new PageContent(mockHeadings, mockLinks));
 
         // Act
         WorkingLink result = analyzer.analyze(url, 1, html);
@@ -32,7 +32,6 @@ public class PageAnalyzerImplTest {
         assertEquals(mockLinks, result.getSubLinks());
         assertEquals(mockHeadings, result.getHeadings());
 
-        verify(parserMock).extractLinks(any());
-        verify(parserMock).extractHeadings(any());
+        verify(parserMock).extractContent(any());
     }
 }
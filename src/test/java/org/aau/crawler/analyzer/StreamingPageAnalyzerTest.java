@@ -0,0 +1,32 @@
+package org.aau.crawler.analyzer;
+
+import org.aau.crawler.result.WorkingLink;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamingPageAnalyzerTest {
+
+    @Test
+    void analyze_shouldReturnWorkingLinkWithExtractedData() {
+        StreamingPageAnalyzer analyzer = new StreamingPageAnalyzer();
+
+        WorkingLink result = analyzer.analyze("https://example.com", 1, "<html><body><h1>Title</h1><a href=\"/page\">Link</a></body></html>");
+
+        assertEquals("https://example.com", result.getUrl());
+        assertEquals(1, result.getDepth());
+        assertEquals(Set.of("^ Title"), result.getHeadings());
+        assertEquals(Set.of("https://example.com/page"), result.getSubLinks());
+    }
+
+    @Test
+    void analyze_shouldHandleMissingBody() {
+        WorkingLink result = new StreamingPageAnalyzer().analyze("https://example.com", 0, (String) null);
+
+        assertTrue(result.getHeadings().isEmpty());
+        assertTrue(result.getSubLinks().isEmpty());
+    }
+}
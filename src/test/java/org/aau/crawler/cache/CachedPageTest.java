@@ -0,0 +1,47 @@
+package org.aau.crawler.cache;
+
+import org.aau.crawler.result.WorkingLink;
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachedPageTest {
+
+    private static final String URL = "http://example.com";
+
+    @Test
+    void ofShouldKeepValidatorsAndAnalysis() {
+        FetchResult result = new FetchResult(200, Map.of("etag", List.of("\"v1\""), "Last-Modified", List.of("Mon, 05 Oct 2026 10:00:00 GMT")), "<h1>Docs</h1>");
+        WorkingLink link = new WorkingLink(URL, 0, Set.of("^ Docs"), Set.of("http://example.com/a"));
+
+        CachedPage page = CachedPage.of(result, link);
+
+        assertEquals(new CacheValidators("\"v1\"", "Mon, 05 Oct 2026 10:00:00 GMT"), page.validators());
+        assertEquals(Set.of("^ Docs"), page.toWorkingLink(URL, 2).getHeadings());
+        assertEquals(Set.of("http://example.com/a"), page.toWorkingLink(URL, 2).getSubLinks());
+        assertEquals(2, page.toWorkingLink(URL, 2).getDepth());
+    }
+
+    @Test
+    void matchesShouldAcceptNotModifiedResponses() {
+        CachedPage page = CachedPage.of(new FetchResult(200, Map.of(), "<h1>Docs</h1>"), new WorkingLink(URL, 0, Set.of(), Set.of()));
+
+        assertTrue(page.matches(new FetchResult(FetchResult.STATUS_NOT_MODIFIED, Map.of(), null)));
+    }
+
+    @Test
+    void matchesShouldCompareBodyHashOfFullResponses() {
+        CachedPage page = CachedPage.of(new FetchResult(200, Map.of(), "<h1>Docs</h1>"), new WorkingLink(URL, 0, Set.of(), Set.of()));
+
+        assertTrue(page.matches(new FetchResult(200, Map.of(), "<h1>Docs</h1>")));
+        assertFalse(page.matches(new FetchResult(200, Map.of(), "<h1>Changed</h1>")));
+    }
+}
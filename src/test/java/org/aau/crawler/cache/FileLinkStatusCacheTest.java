@@ -0,0 +1,132 @@
+package org.aau.crawler.cache;
+
+import org.aau.config.LinkStatusCacheOptions;
+import org.aau.http.FetchResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileLinkStatusCacheTest {
+
+    private static final String URL = "https://external.example.org/page";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-01T10:00:00Z"));
+
+    @Test
+    void getShouldReturnRecordedStatus() {
+        FileLinkStatusCache cache = new FileLinkStatusCache(options(), clock);
+
+        cache.record(URL, new FetchResult(404, Map.of(), null));
+
+        LinkStatus status = cache.get(URL).orElseThrow();
+        assertEquals(404, status.statusCode());
+        assertEquals(clock.instant(), status.checkedAt());
+    }
+
+    @Test
+    void statusesShouldExpireAccordingToTheirOutcome() {
+        FileLinkStatusCache cache = new FileLinkStatusCache(options(), clock);
+        cache.record("https://a.example.org", new FetchResult(200, Map.of(), ""));
+        cache.record("https://b.example.org", new FetchResult(404, Map.of(), null));
+        cache.record("https://c.example.org", new FetchResult(503, Map.of(), null));
+
+        clock.advance(Duration.ofMinutes(30));
+
+        assertTrue(cache.get("https://a.example.org").isPresent());
+        assertTrue(cache.get("https://b.example.org").isPresent());
+        assertTrue(cache.get("https://c.example.org").isEmpty());
+
+        clock.advance(Duration.ofHours(6));
+
+        assertTrue(cache.get("https://a.example.org").isPresent());
+        assertTrue(cache.get("https://b.example.org").isEmpty());
+    }
+
+    @Test
+    void statusesShouldBePersistedAcrossRuns() {
+        FileLinkStatusCache cache = new FileLinkStatusCache(options(), clock);
+        cache.record(URL, FetchResult.unparsed(200, Map.of(), "content type application/pdf"));
+        cache.close();
+
+        LinkStatus status = new FileLinkStatusCache(options(), clock).get(URL).orElseThrow();
+
+        assertTrue(status.isSuccessful());
+        assertEquals("content type application/pdf", status.unparsedReason());
+    }
+
+    @Test
+    void expiredStatusesShouldNotBePersisted() {
+        FileLinkStatusCache cache = new FileLinkStatusCache(options(), clock);
+        cache.record(URL, FetchResult.unavailable());
+        clock.advance(Duration.ofHours(1));
+        cache.close();
+
+        assertTrue(new FileLinkStatusCache(options(), clock).get(URL).isEmpty());
+    }
+
+    @Test
+    void outcomesWithZeroTtlShouldNotBeCached() {
+        LinkStatusCacheOptions options = new LinkStatusCacheOptions(cacheDirectory.resolve("link-status.bin"), Duration.ofHours(1), Duration.ofHours(1), Duration.ZERO);
+        FileLinkStatusCache cache = new FileLinkStatusCache(options, clock);
+
+        cache.record(URL, new FetchResult(500, Map.of(), null));
+
+        assertTrue(cache.get(URL).isEmpty());
+    }
+
+    @Test
+    void unreadableCacheFileShouldBeIgnored() throws IOException {
+        Files.write(cacheDirectory.resolve("link-status.bin"), new byte[]{1, 2, 3});
+
+        FileLinkStatusCache cache = new FileLinkStatusCache(options(), clock);
+
+        assertTrue(cache.get(URL).isEmpty());
+    }
+
+    private LinkStatusCacheOptions options() {
+        return new LinkStatusCacheOptions(cacheDirectory.resolve("link-status.bin"));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.aau.crawler.cache;
+
+import org.aau.http.CacheValidators;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FilePageCacheTest {
+
+    private static final String URL = "http://example.com/docs";
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void getShouldReturnEmptyForUnknownUrl() {
+        FilePageCache cache = new FilePageCache(cacheDirectory);
+
+        assertTrue(cache.get(URL).isEmpty());
+    }
+
+    @Test
+    void getShouldReturnStoredPageAfterReopening() {
+        CachedPage page = new CachedPage(new CacheValidators("\"v1\"", "Mon, 05 Oct 2026 10:00:00 GMT"), "hash", Set.of("^ Docs"), Set.of("http://example.com/a", "http://example.com/b"));
+        new FilePageCache(cacheDirectory).put(URL, page);
+
+        Optional<CachedPage> cachedPage = new FilePageCache(cacheDirectory).get(URL);
+
+        assertEquals(Optional.of(page), cachedPage);
+    }
+
+    @Test
+    void putShouldReplaceExistingEntry() {
+        FilePageCache cache = new FilePageCache(cacheDirectory);
+        cache.put(URL, new CachedPage(new CacheValidators("\"v1\"", null), "first", Set.of(), Set.of()));
+        cache.put(URL, new CachedPage(new CacheValidators(null, null), "second", Set.of(), Set.of()));
+
+        CachedPage cachedPage = cache.get(URL).orElseThrow();
+
+        assertEquals("second", cachedPage.bodyHash());
+        assertTrue(cachedPage.validators().isEmpty());
+    }
+
+    @Test
+    void getShouldIgnoreCorruptEntries() throws IOException {
+        FilePageCache cache = new FilePageCache(cacheDirectory);
+        cache.put(URL, new CachedPage(CacheValidators.NONE, "hash", Set.of(), Set.of()));
+        Files.write(cache.entryPath(URL), new byte[]{1, 2, 3});
+
+        assertTrue(cache.get(URL).isEmpty());
+    }
+}
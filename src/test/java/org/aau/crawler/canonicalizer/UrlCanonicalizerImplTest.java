@@ -0,0 +1,79 @@
+package org.aau.crawler.canonicalizer;
+
+import org.aau.config.CanonicalizationOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UrlCanonicalizerImplTest {
+
+    private final UrlCanonicalizer canonicalizer = new UrlCanonicalizerImpl(CanonicalizationOptions.standard());
+
+    @ParameterizedTest
+    @CsvSource({
+            "http://example.com/x, http://example.com/x",
+            "http://example.com/x#top, http://example.com/x",
+            "HTTP://EXAMPLE.COM/Path, http://example.com/Path",
+            "http://example.com, http://example.com/",
+            "http://example.com:80/x, http://example.com/x",
+            "https://example.com:443/x, https://example.com/x",
+            "http://example.com:8080/x, http://example.com:8080/x",
+            "http://user@Example.com:80/x, http://user@example.com/x",
+            "http://[::1]:80/x, http://[::1]/x",
+            "http://[::1]:8080/x, http://[::1]:8080/x",
+            "http://example.com/%7euser/a%2fb, http://example.com/~user/a%2Fb",
+            "http://example.com/x?, http://example.com/x",
+            "http://example.com/x?b=2&a=1, http://example.com/x?b=2&a=1",
+            "http://example.com/x?utm_source=mail&id=1&UTM_medium=x&fbclid=abc, http://example.com/x?id=1",
+            "http://example.com/x?utm_source=mail#top, http://example.com/x",
+            "http://example.com/x/, http://example.com/x/",
+    })
+    void canonicalizeShouldNormalizeUrlVariants(String url, String expected) {
+        assertEquals(expected, canonicalizer.canonicalize(url));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "mailto:someone@example.com",
+            "javascript:void(0)",
+            "#top",
+            "/relative/path",
+    })
+    void canonicalizeShouldLeaveNonHierarchicalUrlsUnchanged(String url) {
+        assertEquals(url, canonicalizer.canonicalize(url));
+    }
+
+    @Test
+    void canonicalizeShouldHandleEmptyUrls() {
+        assertNull(canonicalizer.canonicalize(null));
+        assertEquals("", canonicalizer.canonicalize(""));
+    }
+
+    @Test
+    void canonicalizeShouldSortQueryParametersByNameWhenEnabled() {
+        UrlCanonicalizer sorting = new UrlCanonicalizerImpl(new CanonicalizationOptions(true, Set.of(), true, false));
+
+        assertEquals("http://example.com/x?a=1&a=0&b=2", sorting.canonicalize("http://example.com/x?b=2&a=1&a=0"));
+    }
+
+    @Test
+    void canonicalizeShouldRemoveTrailingSlashWhenEnabled() {
+        UrlCanonicalizer stripping = new UrlCanonicalizerImpl(new CanonicalizationOptions(true, Set.of(), false, true));
+
+        assertEquals("http://example.com/x", stripping.canonicalize("http://example.com/x/"));
+        assertEquals("http://example.com/", stripping.canonicalize("http://example.com/"));
+        assertEquals("http://example.com/x?utm_source=a", stripping.canonicalize("http://example.com/x/?utm_source=a"));
+    }
+
+    @Test
+    void canonicalizeShouldReturnUrlUnchangedWhenDisabled() {
+        UrlCanonicalizer disabled = new UrlCanonicalizerImpl(CanonicalizationOptions.disabled());
+
+        assertEquals("HTTP://Example.com:80/x#top", disabled.canonicalize("HTTP://Example.com:80/x#top"));
+    }
+}
@@ -0,0 +1,219 @@
+package org.aau.crawler.checkpoint;
+
+import org.aau.crawler.concurrent.CrawlTask;
+import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.Link;
+import org.aau.crawler.result.UnparsedLink;
+import org.aau.crawler.result.WorkingLink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileCrawlCheckpointTest {
+
+    @TempDir
+    Path checkpointDirectory;
+
+    @Test
+    void restoreShouldReturnEmptyStateForNewCheckpoint() {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, true, 100);
+
+        assertTrue(checkpoint.restore().isEmpty());
+        checkpoint.close();
+    }
+
+    @Test
+    void resumeShouldRestoreEnqueuedPendingAndCrawledState() {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        CrawlTask start = new CrawlTask("http://example.com", 0);
+        checkpoint.taskEnqueued(start);
+        checkpoint.linkCrawled(new WorkingLink("http://example.com", 0, Set.of("Heading"), Set.of("http://example.com/a")));
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com/a", 1));
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com/b", 1));
+        checkpoint.taskCompleted(start);
+        checkpoint.close();
+
+        CheckpointState state = new FileCrawlCheckpoint(checkpointDirectory, true, 100).restore();
+
+        assertEquals(Set.of("http://example.com", "http://example.com/a", "http://example.com/b"), state.enqueuedUrls());
+        assertEquals(List.of(new CrawlTask("http://example.com/a", 1), new CrawlTask("http://example.com/b", 1)), state.pendingTasks());
+        assertEquals(1, state.crawledLinks().size());
+        WorkingLink restoredLink = (WorkingLink) state.crawledLinks().getFirst();
+        assertEquals("http://example.com", restoredLink.getUrl());
+        assertEquals(Set.of("Heading"), restoredLink.getHeadings());
+    }
+
+    @Test
+    void resumeShouldDropLinksOfTasksThatDidNotComplete() {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com", 0));
+        checkpoint.linkCrawled(new BrokenLink("http://example.com", 0));
+        checkpoint.flush();
+
+        CheckpointState state = new FileCrawlCheckpoint(checkpointDirectory, true, 100).restore();
+
+        assertEquals(List.of(new CrawlTask("http://example.com", 0)), state.pendingTasks());
+        assertTrue(state.crawledLinks().isEmpty());
+    }
+
+    @Test
+    void journalShouldBeCompactedIntoSnapshots() throws IOException {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 10);
+        checkpoint.restore();
+        for (int i = 0; i < 55; i++) {
+            CrawlTask task = new CrawlTask("http://example.com/" + i, 1);
+            checkpoint.taskEnqueued(task);
+            checkpoint.linkCrawled(new BrokenLink(task.url(), 1));
+            checkpoint.taskCompleted(task);
+        }
+        checkpoint.close();
+
+        assertTrue(Files.exists(checkpointDirectory.resolve(FileCrawlCheckpoint.SNAPSHOT_FILE)));
+        assertEquals(0, countJournals());
+
+        CheckpointState state = new FileCrawlCheckpoint(checkpointDirectory, true, 10).restore();
+        assertEquals(55, state.enqueuedUrls().size());
+        assertEquals(55, state.crawledLinks().size());
+        assertTrue(state.pendingTasks().isEmpty());
+    }
+
+    @Test
+    void resumeShouldApplyJournalOnTopOfSnapshot() {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        CrawlTask start = new CrawlTask("http://example.com", 0);
+        checkpoint.taskEnqueued(start);
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com/a", 1));
+        checkpoint.close();
+
+        FileCrawlCheckpoint resumed = new FileCrawlCheckpoint(checkpointDirectory, true, 100);
+        resumed.restore();
+        resumed.linkCrawled(new BrokenLink("http://example.com", 0));
+        resumed.taskCompleted(start);
+        resumed.flush();
+
+        CheckpointState state = new FileCrawlCheckpoint(checkpointDirectory, true, 100).restore();
+
+        assertEquals(Set.of("http://example.com", "http://example.com/a"), state.enqueuedUrls());
+        assertEquals(List.of(new CrawlTask("http://example.com/a", 1)), state.pendingTasks());
+        assertEquals(List.of(new BrokenLink("http://example.com", 0)), state.crawledLinks());
+    }
+
+    @Test
+    void resumeShouldReplayEveryJournalLeftByAnInterruptedCompaction() throws IOException {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        Path journal = findJournal();
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com", 0));
+        checkpoint.flush();
+        byte[] firstRecord = Files.readAllBytes(journal);
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com/a", 1));
+        checkpoint.flush();
+        byte[] bothRecords = Files.readAllBytes(journal);
+        Files.write(journal, firstRecord);
+        Files.write(checkpointDirectory.resolve("journal-1.bin"), Arrays.copyOfRange(bothRecords, firstRecord.length, bothRecords.length));
+
+        FileCrawlCheckpoint resumed = new FileCrawlCheckpoint(checkpointDirectory, true, 100);
+        CheckpointState state = resumed.restore();
+        resumed.close();
+
+        assertEquals(List.of(new CrawlTask("http://example.com", 0), new CrawlTask("http://example.com/a", 1)), state.pendingTasks());
+        assertEquals(0, countJournals());
+        assertEquals(state.pendingTasks(), new FileCrawlCheckpoint(checkpointDirectory, true, 100).restore().pendingTasks());
+    }
+
+    @Test
+    void journalShouldBufferRecordsUntilFlushed() throws IOException {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        Path journal = findJournal();
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com", 0));
+
+        assertEquals(0, Files.size(journal));
+
+        checkpoint.flush();
+
+        assertTrue(Files.size(journal) > 0);
+        checkpoint.close();
+    }
+
+    @Test
+    void resumeShouldIgnoreIncompleteRecordAtEndOfJournal() throws IOException {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com", 0));
+        checkpoint.flush();
+        Path journal = findJournal();
+        long validLength = Files.size(journal);
+        Files.write(journal, new byte[]{1, 0, 0, 0, 42, 7}, StandardOpenOption.APPEND);
+
+        CheckpointState state = new FileCrawlCheckpoint(checkpointDirectory, true, 100).restore();
+
+        assertEquals(List.of(new CrawlTask("http://example.com", 0)), state.pendingTasks());
+        assertEquals(validLength, Files.size(journal));
+    }
+
+    @Test
+    void restoreWithoutResumeShouldDiscardPreviousCheckpoint() {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        checkpoint.taskEnqueued(new CrawlTask("http://example.com", 0));
+        checkpoint.close();
+
+        assertTrue(new FileCrawlCheckpoint(checkpointDirectory, false, 100).restore().isEmpty());
+    }
+
+    @Test
+    void restoredLinksShouldKeepTheirType() {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        Link brokenLink = new BrokenLink("http://example.com/broken", 2);
+        checkpoint.linkCrawled(brokenLink);
+        checkpoint.close();
+
+        CheckpointState state = new FileCrawlCheckpoint(checkpointDirectory, true, 100).restore();
+
+        assertEquals(BrokenLink.class, state.crawledLinks().getFirst().getClass());
+        assertEquals(2, state.crawledLinks().getFirst().getDepth());
+    }
+
+    @Test
+    void restoredUnparsedLinksShouldKeepTheirReason() {
+        FileCrawlCheckpoint checkpoint = new FileCrawlCheckpoint(checkpointDirectory, false, 100);
+        checkpoint.restore();
+        checkpoint.linkCrawled(new UnparsedLink("http://example.com/archive.zip", 1, "content type application/zip"));
+        checkpoint.close();
+
+        CheckpointState state = new FileCrawlCheckpoint(checkpointDirectory, true, 100).restore();
+
+        UnparsedLink link = assertInstanceOf(UnparsedLink.class, state.crawledLinks().getFirst());
+        assertEquals("content type application/zip", link.getReason());
+        assertEquals(1, link.getDepth());
+    }
+
+    private long countJournals() throws IOException {
+        try (Stream<Path> files = Files.list(checkpointDirectory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-")).count();
+        }
+    }
+
+    private Path findJournal() throws IOException {
+        try (Stream<Path> files = Files.list(checkpointDirectory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-")).findFirst().orElseThrow();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.aau.crawler.client;
 
+import org.aau.http.FetchResult;
+
 import java.util.Map;
 
 public class MockWebCrawlerClient implements WebCrawlerClient {
@@ -16,6 +18,11 @@ public class MockWebCrawlerClient implements WebCrawlerClient {
         return pageAvailability.getOrDefault(url, false);
     }
 
+    @Override
+    public FetchResult checkLink(String url) {
+        return new FetchResult(isPageAvailable(url) ? 200 : 404, Map.of(), null);
+    }
+
     @Override
     public String getPageContent(String url) throws RuntimeException {
         if (url.contains("broken")) {
@@ -24,6 +31,14 @@ public class MockWebCrawlerClient implements WebCrawlerClient {
         return pageContents.getOrDefault(url, "<html><body>Default mocked content for " + url + "</body></html>");
     }
 
+    @Override
+    public FetchResult fetch(String url) {
+        if (!isPageAvailable(url)) {
+            return new FetchResult(404, Map.of(), null);
+        }
+        return new FetchResult(200, Map.of(), getPageContent(url));
+    }
+
     @Override
     public void close() {}
 }
\ No newline at end of file
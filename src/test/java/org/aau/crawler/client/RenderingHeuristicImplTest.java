@@ -0,0 +1,77 @@
+package org.aau.crawler.client;
+
+import org.aau.config.FetchOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderingHeuristicImplTest {
+
+    private final RenderingHeuristic heuristic = new RenderingHeuristicImpl(FetchOptions.DEFAULT_RENDERING_MARKERS);
+
+    @Test
+    void serverRenderedPageShouldNotRequireRendering() {
+        String html = "<html><head><title>Static</title></head><body><h1>Hello</h1><a href=\"/next\">Next</a></body></html>";
+
+        assertFalse(heuristic.requiresRendering(html));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "   ",
+            "<html><body></body></html>",
+            "<html><body>  <script src=\"/bundle.js\"></script> </body></html>",
+            "<html><body><div><span></span></div><!-- app --></body></html>"
+    })
+    void emptyBodyShouldRequireRendering(String html) {
+        assertTrue(heuristic.requiresRendering(html));
+    }
+
+    @Test
+    void imageOnlyPageShouldNotRequireRendering() {
+        String html = "<html><body><div class=\"gallery\"><IMG src=\"/a.jpg\"><img src=\"/b.jpg\"/></div></body></html>";
+
+        assertFalse(heuristic.requiresRendering(html));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "<html><body><canvas id=\"chart\"></canvas></body></html>",
+            "<html><body><iframe src=\"/embedded\"></iframe></body></html>",
+            "<html><body><script>var a = '<div>';</script><video src=\"/clip.mp4\"></video></body></html>"
+    })
+    void mediaContentShouldNotRequireRendering(String html) {
+        assertFalse(heuristic.requiresRendering(html));
+    }
+
+    @Test
+    void headContentShouldNotCountAsBodyContent() {
+        assertTrue(heuristic.requiresRendering("<html><head><title>App</title></head><body><div></div></body></html>"));
+    }
+
+    @Test
+    void nullHtmlShouldRequireRendering() {
+        assertTrue(heuristic.requiresRendering(null));
+    }
+
+    @Test
+    void knownSpaMarkerShouldRequireRendering() {
+        String html = "<html><body><noscript>You need to enable JavaScript to run this app.</noscript><DIV ID=\"root\"></DIV></body></html>";
+
+        assertTrue(heuristic.requiresRendering(html));
+    }
+
+    @Test
+    void customMarkerShouldRequireRendering() {
+        RenderingHeuristic customHeuristic = new RenderingHeuristicImpl(Set.of("data-client-only"));
+
+        assertTrue(customHeuristic.requiresRendering("<html><body><main data-client-only>Loading</main></body></html>"));
+        assertFalse(customHeuristic.requiresRendering("<html><body><div id=\"root\"></div>Content</body></html>"));
+    }
+}
@@ -1,7 +1,9 @@
 package org.aau.crawler.client;
 
 
+import org.aau.config.FetchMode;
 import org.aau.http.HttpClient;
+import org.aau.http.HttpClientImpl;
 import org.aau.web.WebDriver;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,8 +16,10 @@ import org.mockserver.junit.jupiter.MockServerExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -93,6 +97,43 @@ public class WebCrawlerClientImplIntegrationTest {
         assertEquals(expectedHtml, result);
     }
 
+    @Test
+    void getPageContentShouldLoadPageOverHttpInHttpFetchMode() {
+        String path = "/test-static-html";
+        String url = "%s%s".formatted(mockServerUrl, path);
+        String expectedHtml = "<html><head><title>Static Title</title></head><body>Static</body></html>";
+        client.when(
+                request()
+                        .withPath(path)
+                        .withMethod("GET")
+        ).respond(
+                response()
+                        .withStatusCode(200)
+                        .withBody(expectedHtml)
+        );
+        WebDriver mockWebDriver = mock(WebDriver.class);
+        try (WebCrawlerClientImpl client = new WebCrawlerClientImpl(mockWebDriver, new HttpClientImpl(), FetchMode.HTTP, html -> false)) {
+            assertEquals(expectedHtml, client.getPageContent(url));
+        }
+        verify(mockWebDriver, never()).getPageContent(url);
+    }
+
+    @Test
+    void getPageContentShouldThrowExceptionForErrorCodeInHttpFetchMode() {
+        String path = "/test-missing-html";
+        String url = "%s%s".formatted(mockServerUrl, path);
+        client.when(
+                request()
+                        .withPath(path)
+                        .withMethod("GET")
+        ).respond(
+                response().withStatusCode(404)
+        );
+        try (WebCrawlerClientImpl client = new WebCrawlerClientImpl(mock(WebDriver.class), new HttpClientImpl(), FetchMode.HTTP, html -> false)) {
+            assertThrows(RuntimeException.class, () -> client.getPageContent(url));
+        }
+    }
+
     @Test
     void closeShouldCloseWebDriverAndHTTPClient() {
         HttpClient mockHttpClient = mock(HttpClient.class);
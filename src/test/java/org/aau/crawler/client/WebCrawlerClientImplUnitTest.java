@@ -0,0 +1,166 @@
+package org.aau.crawler.client;
+
+import org.aau.config.FetchMode;
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
+import org.aau.http.HttpClient;
+import org.aau.web.WebDriver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebCrawlerClientImplUnitTest {
+
+    private static final String URL = "http://example.com";
+    private static final String STATIC_HTML = "<html><body><h1>Static</h1></body></html>";
+    private static final String RENDERED_HTML = "<html><body><h1>Rendered</h1></body></html>";
+
+    WebDriver webDriverMock;
+    HttpClient httpClientMock;
+    RenderingHeuristic renderingHeuristicMock;
+
+    @BeforeEach
+    void setup() {
+        webDriverMock = mock(WebDriver.class);
+        httpClientMock = mock(HttpClient.class);
+        renderingHeuristicMock = mock(RenderingHeuristic.class);
+        when(httpClientMock.fetch(URL)).thenReturn(new FetchResult(200, Map.of(), STATIC_HTML));
+        when(webDriverMock.getPageContent(URL)).thenReturn(RENDERED_HTML);
+        when(httpClientMock.fetchAsync(URL)).thenReturn(CompletableFuture.completedFuture(new FetchResult(200, Map.of(), STATIC_HTML)));
+    }
+
+    @Test
+    void browserModeShouldLoadPageWithWebDriver() {
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.BROWSER, renderingHeuristicMock);
+
+        assertEquals(RENDERED_HTML, client.getPageContent(URL));
+        verify(httpClientMock, never()).fetch(URL);
+    }
+
+    @Test
+    void fetchInBrowserModeShouldUseStatusFromHttpAndBodyFromWebDriver() {
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.BROWSER, renderingHeuristicMock);
+
+        FetchResult result = client.fetch(URL);
+
+        assertEquals(200, result.statusCode());
+        assertEquals(RENDERED_HTML, result.body());
+    }
+
+    @Test
+    void fetchShouldNotLoadPageContentForBrokenLinks() {
+        when(httpClientMock.fetch(URL)).thenReturn(new FetchResult(404, Map.of(), "Not Found"));
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.BROWSER, renderingHeuristicMock);
+
+        FetchResult result = client.fetch(URL);
+
+        assertFalse(result.isSuccessful());
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void fetchShouldNotLoadPageContentForUnparsedLinks() {
+        when(httpClientMock.fetch(URL)).thenReturn(FetchResult.unparsed(200, Map.of(), "content type image/png"));
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.BROWSER, renderingHeuristicMock);
+
+        FetchResult result = client.fetch(URL);
+
+        assertTrue(result.isUnparsed());
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void fetchShouldSendValidatorsAndNotRenderUnmodifiedPages() {
+        CacheValidators validators = new CacheValidators("\"v1\"", null);
+        when(httpClientMock.fetch(URL, validators)).thenReturn(new FetchResult(FetchResult.STATUS_NOT_MODIFIED, Map.of(), null));
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.BROWSER, renderingHeuristicMock);
+
+        FetchResult result = client.fetch(URL, validators);
+
+        assertTrue(result.isNotModified());
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void fetchInHttpModeShouldUseSingleRequest() {
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.HTTP, renderingHeuristicMock);
+
+        FetchResult result = client.fetch(URL);
+
+        assertEquals(STATIC_HTML, result.body());
+        verify(httpClientMock).fetch(URL);
+        verify(httpClientMock, never()).isPageAvailable(URL);
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void fetchAsyncInHttpModeShouldUseAsynchronousRequest() {
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.HTTP, renderingHeuristicMock);
+
+        FetchResult result = client.fetchAsync(URL).join();
+
+        assertEquals(STATIC_HTML, result.body());
+        verify(httpClientMock).fetchAsync(URL);
+        verify(httpClientMock, never()).fetch(URL);
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void fetchAsyncInBrowserModeShouldRenderSuccessfulPages() {
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.BROWSER, renderingHeuristicMock);
+
+        FetchResult result = client.fetchAsync(URL).join();
+
+        assertEquals(200, result.statusCode());
+        assertEquals(RENDERED_HTML, result.body());
+    }
+
+    @Test
+    void fetchAsyncShouldNotRenderBrokenLinks() {
+        when(httpClientMock.fetchAsync(URL)).thenReturn(CompletableFuture.completedFuture(new FetchResult(404, Map.of(), "Not Found")));
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.BROWSER, renderingHeuristicMock);
+
+        FetchResult result = client.fetchAsync(URL).join();
+
+        assertFalse(result.isSuccessful());
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void httpModeShouldNeverUseWebDriver() {
+        when(renderingHeuristicMock.requiresRendering(STATIC_HTML)).thenReturn(true);
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.HTTP, renderingHeuristicMock);
+
+        assertEquals(STATIC_HTML, client.getPageContent(URL));
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void autoModeShouldReturnHttpContentForStaticPages() {
+        when(renderingHeuristicMock.requiresRendering(STATIC_HTML)).thenReturn(false);
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.AUTO, renderingHeuristicMock);
+
+        assertEquals(STATIC_HTML, client.getPageContent(URL));
+        verify(webDriverMock, never()).getPageContent(URL);
+    }
+
+    @Test
+    void autoModeShouldEscalateToWebDriverIfPageRequiresRendering() {
+        when(renderingHeuristicMock.requiresRendering(STATIC_HTML)).thenReturn(true);
+        var client = new WebCrawlerClientImpl(webDriverMock, httpClientMock, FetchMode.AUTO, renderingHeuristicMock);
+
+        assertEquals(RENDERED_HTML, client.getPageContent(URL));
+        verify(httpClientMock).fetch(URL);
+        verify(webDriverMock).getPageContent(URL);
+    }
+}
@@ -0,0 +1,235 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.DomainFilter;
+import org.aau.config.ExecutorOptions;
+import org.aau.config.WebCrawlerConfiguration;
+import org.aau.crawler.analyzer.MockPageAnalyzer;
+import org.aau.crawler.analyzer.PageAnalyzer;
+import org.aau.crawler.cache.LinkStatus;
+import org.aau.crawler.cache.LinkStatusCache;
+import org.aau.crawler.client.MockWebCrawlerClient;
+import org.aau.crawler.client.WebCrawlerClient;
+import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.Link;
+import org.aau.http.FetchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncWebCrawlerRunnableTest {
+
+    private static final int MAX_IN_FLIGHT_REQUESTS = 3;
+
+    private WebCrawlerSharedState sharedState;
+    private WebCrawlerConfiguration configuration;
+    private ScheduledExecutorService responseScheduler;
+
+    @BeforeEach
+    void setUp() {
+        sharedState = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(0),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new ArrayList<>())
+        );
+        configuration = new WebCrawlerConfiguration(
+                "https://example.com",
+                2,
+                2,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        ).withExecutorOptions(ExecutorOptions.asyncFetches(MAX_IN_FLIGHT_REQUESTS));
+        responseScheduler = Executors.newScheduledThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        responseScheduler.shutdownNow();
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldCrawlAllTasksWithAsynchronousFetches() throws InterruptedException {
+        Map<String, Set<String>> links = Map.of(
+                "https://example.com", Set.of("https://example.com/a", "https://example.com/b", "https://example.com/c"),
+                "https://example.com/a", Set.of("https://example.com/b", "https://example.com/d"),
+                "https://example.com/b", Set.of("https://example.com/a")
+        );
+        Map<String, Boolean> availability = Map.of(
+                "https://example.com", true,
+                "https://example.com/a", true,
+                "https://example.com/b", true,
+                "https://example.com/c", true,
+                "https://example.com/d", true
+        );
+        sharedState.addTask(new CrawlTask("https://example.com", 0));
+
+        AsyncWebCrawlerRunnable runnable;
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            runnable = new AsyncWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    return delayedClient(new MockWebCrawlerClient(Map.of(), availability), new AtomicInteger(), new AtomicInteger());
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(links, Map.of());
+                }
+            };
+            executor.submit(runnable);
+
+            sharedState.completionLatch().await();
+        }
+
+        assertEquals(5, sharedState.crawledLinks().size());
+        for (String url : availability.keySet()) {
+            assertTrue(sharedState.containsCrawledUrl(url));
+        }
+        assertTrue(sharedState.urlQueue().isEmpty());
+        assertTrue(sharedState.crawlingErrors().isEmpty());
+        assertEquals(MAX_IN_FLIGHT_REQUESTS, runnable.availablePermits());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldNotExceedMaximumInFlightRequests() throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            sharedState.addTask(new CrawlTask("https://example.com/page" + i, 0));
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            executor.submit(new AsyncWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    return delayedClient(new MockWebCrawlerClient(Map.of(), Map.of()), inFlight, maxInFlight);
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(Map.of(), Map.of());
+                }
+            });
+
+            sharedState.completionLatch().await();
+        }
+
+        assertEquals(20, sharedState.crawledLinks().size());
+        assertTrue(maxInFlight.get() <= MAX_IN_FLIGHT_REQUESTS);
+        assertTrue(sharedState.crawlingErrors().isEmpty());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldReportBrokenLinkIfAsynchronousFetchFails() throws InterruptedException {
+        sharedState.addTask(new CrawlTask("https://example.com", 0));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            executor.submit(new AsyncWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    return new MockWebCrawlerClient(Map.of(), Map.of()) {
+                        @Override
+                        public CompletableFuture<FetchResult> fetchAsync(String url) {
+                            return CompletableFuture.failedFuture(new IllegalStateException("Simulated network error"));
+                        }
+                    };
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(Map.of(), Map.of());
+                }
+            });
+
+            sharedState.completionLatch().await();
+        }
+
+        Link link = sharedState.crawledLinks().iterator().next();
+        assertInstanceOf(BrokenLink.class, link);
+        assertEquals(1, sharedState.crawlingErrors().size());
+        assertEquals(0, sharedState.pendingTasks().get());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldHandleFetchResultsOnAnalysisExecutor() throws InterruptedException {
+        Set<String> recordingThreads = ConcurrentHashMap.newKeySet();
+        sharedState = sharedState.withLinkStatusCache(new LinkStatusCache() {
+            @Override
+            public Optional<LinkStatus> get(String url) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void record(String url, FetchResult result) {
+                recordingThreads.add(Thread.currentThread().getName());
+            }
+
+            @Override
+            public void close() {}
+        });
+        for (int i = 0; i < 5; i++) {
+            sharedState.addTask(new CrawlTask("https://example.com/missing" + i, 0));
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> new Thread(runnable, "analysis"))) {
+            executor.submit(new AsyncWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    return delayedClient(new MockWebCrawlerClient(Map.of(), Map.of()), new AtomicInteger(), new AtomicInteger());
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(Map.of(), Map.of());
+                }
+            });
+
+            sharedState.completionLatch().await();
+        }
+
+        assertEquals(5, sharedState.crawledLinks().size());
+        assertEquals(Set.of("analysis"), recordingThreads);
+    }
+
+    private WebCrawlerClient delayedClient(WebCrawlerClient delegate, AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        return new MockWebCrawlerClient(Map.of(), Map.of()) {
+            @Override
+            public CompletableFuture<FetchResult> fetchAsync(String url) {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                CompletableFuture<FetchResult> response = new CompletableFuture<>();
+                responseScheduler.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    response.complete(delegate.fetch(url));
+                }, 20, TimeUnit.MILLISECONDS);
+                return response;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package org.aau.crawler.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedParseStageTest {
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void submitShouldRunJobsOnParseThreads() throws InterruptedException {
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        BoundedParseStage parseStage = new BoundedParseStage(2, 4);
+
+        for (int i = 0; i < 3; i++) {
+            parseStage.submit(() -> {
+                threadNames.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        parseStage.close();
+        assertTrue(threadNames.stream().allMatch(name -> name.startsWith("parse-worker-")));
+        assertEquals(6, parseStage.availableCapacity());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void submitShouldBlockWhenStageIsFull() throws InterruptedException {
+        BoundedParseStage parseStage = new BoundedParseStage(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        parseStage.submit(() -> awaitQuietly(release));
+        parseStage.submit(() -> {});
+        CountDownLatch thirdSubmitted = new CountDownLatch(1);
+
+        Thread producer = new Thread(() -> {
+            try {
+                parseStage.submit(() -> {});
+                thirdSubmitted.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        assertFalse(thirdSubmitted.await(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(thirdSubmitted.await(5, TimeUnit.SECONDS));
+        producer.join();
+        parseStage.close();
+    }
+
+    @Test
+    void submitShouldRejectJobsAfterClose() {
+        BoundedParseStage parseStage = new BoundedParseStage(1, 0);
+        parseStage.close();
+
+        assertThrows(RejectedExecutionException.class, () -> parseStage.submit(() -> {}));
+        assertEquals(1, parseStage.availableCapacity());
+    }
+
+    @Test
+    void constructorShouldRejectInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedParseStage(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedParseStage(1, -1));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.PolitenessOptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HostPolitenessQueueTest {
+
+    @Test
+    void pollShouldRoundRobinAcrossHosts() throws InterruptedException {
+        HostPolitenessQueue queue = new HostPolitenessQueue(PolitenessOptions.unlimited());
+        queue.put(new CrawlTask("http://a.com/1", 0));
+        queue.put(new CrawlTask("http://a.com/2", 0));
+        queue.put(new CrawlTask("http://a.com/3", 0));
+        queue.put(new CrawlTask("http://b.com/1", 0));
+        queue.put(new CrawlTask("http://c.com/1", 0));
+
+        assertEquals("http://a.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertEquals("http://b.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertEquals("http://c.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertEquals("http://a.com/2", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertEquals("http://a.com/3", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void pollShouldNotExceedConcurrencyPerHost() throws InterruptedException {
+        HostPolitenessQueue queue = new HostPolitenessQueue(new PolitenessOptions(1, Duration.ZERO));
+        CrawlTask first = new CrawlTask("http://a.com/1", 0);
+        queue.put(first);
+        queue.put(new CrawlTask("http://a.com/2", 0));
+        queue.put(new CrawlTask("http://b.com/1", 0));
+
+        assertEquals(first, queue.poll(0, TimeUnit.MILLISECONDS));
+        assertEquals("http://b.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertNull(queue.poll(20, TimeUnit.MILLISECONDS));
+        assertEquals(1, queue.activeRequests("a.com"));
+
+        queue.release(first);
+
+        assertEquals("http://a.com/2", queue.poll(0, TimeUnit.MILLISECONDS).url());
+    }
+
+    @Test
+    void pollShouldWaitForMinimumDelayPerHost() throws InterruptedException {
+        HostPolitenessQueue queue = new HostPolitenessQueue(new PolitenessOptions(Integer.MAX_VALUE, Duration.ofMillis(50)));
+        queue.put(new CrawlTask("http://a.com/1", 0));
+        queue.put(new CrawlTask("http://a.com/2", 0));
+
+        assertEquals("http://a.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        CrawlTask delayed = queue.poll(1, TimeUnit.SECONDS);
+
+        assertEquals("http://a.com/2", delayed.url());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 40);
+    }
+
+    @Test
+    void releaseShouldIgnoreTasksThatWereNeverPolled() throws InterruptedException {
+        HostPolitenessQueue queue = new HostPolitenessQueue(new PolitenessOptions(1, Duration.ZERO));
+        CrawlTask polled = new CrawlTask("http://a.com/1", 0);
+        queue.put(polled);
+        queue.put(new CrawlTask("http://a.com/2", 0));
+        queue.poll(0, TimeUnit.MILLISECONDS);
+
+        queue.release(new CrawlTask("http://a.com/3", 0));
+
+        assertEquals(1, queue.activeRequests("a.com"));
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void sharedStateShouldReleaseHostWhenTaskCompletes() throws InterruptedException {
+        HostPolitenessQueue queue = new HostPolitenessQueue(new PolitenessOptions(1, Duration.ZERO));
+        WebCrawlerSharedState sharedState = new WebCrawlerSharedState(queue, new HashSet<>(), new AtomicInteger(), new CountDownLatch(1), new ArrayList<>());
+        sharedState.addTask(new CrawlTask("http://a.com/1", 0));
+        sharedState.addTask(new CrawlTask("http://a.com/2", 0));
+
+        CrawlTask task = sharedState.getNextTask();
+        sharedState.completeTask(task);
+
+        assertEquals(0, queue.activeRequests("a.com"));
+        assertEquals("http://a.com/2", sharedState.getNextTask().url());
+    }
+
+    @Test
+    void endOfCrawlMarkerShouldBypassHostLimits() throws InterruptedException {
+        HostPolitenessQueue queue = new HostPolitenessQueue(new PolitenessOptions(1, Duration.ofHours(1)));
+        queue.offer(new CrawlTask("http://a.com/1", 0));
+        queue.offer(new CrawlTask("http://a.com/2", 0));
+        queue.poll();
+
+        queue.offer(CrawlTask.END_OF_CRAWL);
+
+        assertSame(CrawlTask.END_OF_CRAWL, queue.poll(0, TimeUnit.MILLISECONDS));
+        assertEquals(1, queue.size());
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+    }
+}
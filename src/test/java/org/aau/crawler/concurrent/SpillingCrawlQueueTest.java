@@ -0,0 +1,174 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.PolitenessOptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillingCrawlQueueTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void queueShouldNotSpillBelowMemoryLimit() throws InterruptedException {
+        LinkedBlockingQueue<CrawlTask> memoryQueue = new LinkedBlockingQueue<>();
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(memoryQueue, 10, spillDirectory);
+
+        queue.put(new CrawlTask("http://example.com/1", 1));
+        queue.put(new CrawlTask("http://example.com/2", 1));
+
+        assertEquals(2, memoryQueue.size());
+        assertEquals(0, queue.spilledTaskCount());
+        assertEquals("http://example.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+    }
+
+    @Test
+    void queueShouldKeepAtMostLimitInMemoryAndPreserveOrder() throws InterruptedException {
+        LinkedBlockingQueue<CrawlTask> memoryQueue = new LinkedBlockingQueue<>();
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(memoryQueue, 3, spillDirectory);
+        for (int i = 0; i < 20; i++) {
+            queue.put(new CrawlTask("http://example.com/" + i, i % 4));
+        }
+
+        assertEquals(3, memoryQueue.size());
+        assertEquals(17, queue.spilledTaskCount());
+        assertEquals(20, queue.size());
+
+        List<CrawlTask> polled = new ArrayList<>();
+        CrawlTask task;
+        while ((task = queue.poll(0, TimeUnit.MILLISECONDS)) != null) {
+            assertTrue(memoryQueue.size() <= 3);
+            polled.add(task);
+        }
+
+        assertEquals(20, polled.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(new CrawlTask("http://example.com/" + i, i % 4), polled.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void queueShouldRollOverSegmentsAndDeleteReadSegments() throws InterruptedException, IOException {
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(new LinkedBlockingQueue<>(), 1, spillDirectory);
+        int taskCount = SpillingCrawlQueue.TASKS_PER_SEGMENT * 2 + 10;
+        for (int i = 0; i < taskCount; i++) {
+            queue.put(new CrawlTask("http://example.com/" + i, 1));
+        }
+        assertEquals(3, queue.segmentCount());
+
+        for (int i = 0; i < SpillingCrawlQueue.TASKS_PER_SEGMENT + 5; i++) {
+            assertEquals("http://example.com/" + i, queue.poll(0, TimeUnit.MILLISECONDS).url());
+        }
+        assertEquals(2, queue.segmentCount());
+
+        queue.close();
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void queueShouldInterleaveSpilledAndNewTasks() throws InterruptedException {
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(new LinkedBlockingQueue<>(), 2, spillDirectory);
+        queue.put(new CrawlTask("http://example.com/1", 1));
+        queue.put(new CrawlTask("http://example.com/2", 1));
+        queue.put(new CrawlTask("http://example.com/3", 1));
+
+        assertEquals("http://example.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        queue.put(new CrawlTask("http://example.com/4", 1));
+        assertEquals("http://example.com/2", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertEquals("http://example.com/3", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertEquals("http://example.com/4", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void releaseShouldBeForwardedToMemoryFrontier() throws InterruptedException {
+        HostPolitenessQueue politenessQueue = new HostPolitenessQueue(new PolitenessOptions(1, Duration.ZERO));
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(politenessQueue, 1, spillDirectory);
+        queue.put(new CrawlTask("http://example.com/1", 1));
+        queue.put(new CrawlTask("http://example.com/2", 1));
+
+        CrawlTask first = queue.poll(0, TimeUnit.MILLISECONDS);
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+        queue.release(first);
+
+        assertEquals("http://example.com/2", queue.poll(0, TimeUnit.MILLISECONDS).url());
+    }
+
+    @Test
+    void tasksOfBlockedHostsShouldNotStarveSpilledTasksOfOtherHosts() throws InterruptedException {
+        HostPolitenessQueue politenessQueue = new HostPolitenessQueue(new PolitenessOptions(1, Duration.ofHours(1)));
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(politenessQueue, 2, spillDirectory);
+        for (int i = 0; i < 5; i++) {
+            queue.put(new CrawlTask("http://slow.com/" + i, 1));
+        }
+        queue.put(new CrawlTask("http://fast.com/1", 1));
+        queue.put(new CrawlTask("http://fast.com/2", 1));
+
+        assertEquals("http://slow.com/0", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertEquals("http://fast.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+        assertTrue(politenessQueue.size() <= 2);
+        assertEquals(5, queue.size());
+    }
+
+    @Test
+    void offerShouldOnlySpillTasksOfHostsThatAlreadyHaveSpilledTasks() {
+        LinkedBlockingQueue<CrawlTask> memoryQueue = new LinkedBlockingQueue<>();
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(memoryQueue, 2, spillDirectory);
+        queue.put(new CrawlTask("http://a.com/1", 1));
+        queue.put(new CrawlTask("http://a.com/2", 1));
+        queue.put(new CrawlTask("http://a.com/3", 1));
+        memoryQueue.clear();
+
+        queue.put(new CrawlTask("http://b.com/1", 1));
+        queue.put(new CrawlTask("http://a.com/4", 1));
+
+        assertEquals(List.of(new CrawlTask("http://b.com/1", 1)), List.copyOf(memoryQueue));
+        assertEquals(2, queue.spilledTaskCount());
+    }
+
+    @Test
+    void tasksOfBlockedHostsShouldOnlyFillHalfOfTheMemory() throws InterruptedException {
+        HostPolitenessQueue politenessQueue = new HostPolitenessQueue(new PolitenessOptions(1, Duration.ZERO));
+        SpillingCrawlQueue queue = new SpillingCrawlQueue(politenessQueue, 4, spillDirectory);
+        queue.put(new CrawlTask("http://slow.com/0", 1));
+        for (int i = 0; i < 3; i++) {
+            queue.put(new CrawlTask("http://fast.com/" + i, 1));
+        }
+        for (int i = 1; i < 6; i++) {
+            queue.put(new CrawlTask("http://slow.com/" + i, 1));
+        }
+
+        assertEquals("http://slow.com/0", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        CrawlTask fast = queue.poll(0, TimeUnit.MILLISECONDS);
+        assertEquals("http://fast.com/0", fast.url());
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+        queue.release(fast);
+        assertEquals("http://fast.com/1", queue.poll(0, TimeUnit.MILLISECONDS).url());
+        assertNull(queue.poll(0, TimeUnit.MILLISECONDS));
+
+        assertEquals(2, politenessQueue.size());
+        assertEquals(4, queue.spilledTaskCount());
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(spillDirectory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
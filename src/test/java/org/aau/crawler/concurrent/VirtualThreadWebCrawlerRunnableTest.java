@@ -0,0 +1,225 @@
+package org.aau.crawler.concurrent;
+
+import org.aau.config.DomainFilter;
+import org.aau.config.ExecutorOptions;
+import org.aau.config.WebCrawlerConfiguration;
+import org.aau.crawler.analyzer.MockPageAnalyzer;
+import org.aau.crawler.analyzer.PageAnalyzer;
+import org.aau.crawler.client.MockWebCrawlerClient;
+import org.aau.crawler.client.WebCrawlerClient;
+import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.Link;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadWebCrawlerRunnableTest {
+
+    private static final int MAX_CONCURRENT_TASKS = 3;
+
+    private WebCrawlerSharedState sharedState;
+    private WebCrawlerConfiguration configuration;
+
+    @BeforeEach
+    void setUp() {
+        sharedState = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(0),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new ArrayList<>())
+        );
+        configuration = new WebCrawlerConfiguration(
+                "https://example.com",
+                2,
+                1,
+                new DomainFilter(Set.of("example.com")),
+                "/output"
+        ).withExecutorOptions(ExecutorOptions.virtualThreads(MAX_CONCURRENT_TASKS));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldCrawlAllTasksOnVirtualThreads() throws InterruptedException {
+        Map<String, Set<String>> links = Map.of(
+                "https://example.com", Set.of("https://example.com/a", "https://example.com/b", "https://example.com/c"),
+                "https://example.com/a", Set.of("https://example.com/b", "https://example.com/d"),
+                "https://example.com/b", Set.of("https://example.com/a")
+        );
+        Map<String, Boolean> availability = Map.of(
+                "https://example.com", true,
+                "https://example.com/a", true,
+                "https://example.com/b", true,
+                "https://example.com/c", true,
+                "https://example.com/d", true
+        );
+        sharedState.addTask(new CrawlTask("https://example.com", 0));
+
+        VirtualThreadWebCrawlerRunnable runnable;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            runnable = new VirtualThreadWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    return new MockWebCrawlerClient(Map.of(), availability);
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(links, Map.of());
+                }
+            };
+            executor.submit(runnable);
+
+            sharedState.completionLatch().await();
+        }
+
+        assertEquals(5, sharedState.crawledLinks().size());
+        for (String url : availability.keySet()) {
+            assertTrue(sharedState.containsCrawledUrl(url));
+        }
+        assertTrue(sharedState.urlQueue().isEmpty());
+        assertTrue(sharedState.crawlingErrors().isEmpty());
+        assertEquals(MAX_CONCURRENT_TASKS, runnable.availablePermits());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldNotExceedMaximumConcurrentTasks() throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            sharedState.addTask(new CrawlTask("https://example.com/page" + i, 0));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(new VirtualThreadWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    return new MockWebCrawlerClient(Map.of(), Map.of()) {
+                        @Override
+                        public boolean isPageAvailable(String url) {
+                            int current = inFlight.incrementAndGet();
+                            maxInFlight.accumulateAndGet(current, Math::max);
+                            try {
+                                TimeUnit.MILLISECONDS.sleep(20);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            inFlight.decrementAndGet();
+                            return false;
+                        }
+                    };
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(Map.of(), Map.of());
+                }
+            });
+
+            sharedState.completionLatch().await();
+        }
+
+        List<Link> brokenLinks = List.copyOf(sharedState.crawledLinks());
+        assertEquals(20, brokenLinks.size());
+        assertTrue(maxInFlight.get() <= MAX_CONCURRENT_TASKS);
+        List<CrawlingError> errors = sharedState.crawlingErrors();
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldNotTakeTaskWhileAllSlotsAreBusy() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(MAX_CONCURRENT_TASKS);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < MAX_CONCURRENT_TASKS + 2; i++) {
+            sharedState.addTask(new CrawlTask("https://example.com/page" + i, 0));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(new VirtualThreadWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    return new MockWebCrawlerClient(Map.of(), Map.of()) {
+                        @Override
+                        public boolean isPageAvailable(String url) {
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return false;
+                        }
+                    };
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(Map.of(), Map.of());
+                }
+            });
+
+            started.await();
+            TimeUnit.MILLISECONDS.sleep(50);
+            assertEquals(2, sharedState.urlQueue().size());
+
+            release.countDown();
+            sharedState.completionLatch().await();
+        }
+
+        assertEquals(MAX_CONCURRENT_TASKS + 2, sharedState.crawledLinks().size());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void shouldShareDispatcherClientAcrossTasks() throws InterruptedException {
+        AtomicInteger createdClients = new AtomicInteger();
+        AtomicInteger closedClients = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            sharedState.addTask(new CrawlTask("https://example.com/page" + i, 0));
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(new VirtualThreadWebCrawlerRunnable(sharedState, configuration, executor) {
+                @Override
+                protected WebCrawlerClient createWebCrawlerClient() {
+                    createdClients.incrementAndGet();
+                    return new MockWebCrawlerClient(Map.of(), Map.of()) {
+                        @Override
+                        public void close() {
+                            closedClients.incrementAndGet();
+                        }
+                    };
+                }
+
+                @Override
+                protected PageAnalyzer createPageAnalyzer() {
+                    return new MockPageAnalyzer(Map.of(), Map.of());
+                }
+            });
+
+            sharedState.completionLatch().await();
+        }
+
+        assertEquals(5, sharedState.crawledLinks().size());
+        assertEquals(1, createdClients.get());
+        assertEquals(1, closedClients.get());
+    }
+}
@@ -1,23 +1,36 @@
 package org.aau.crawler.concurrent;
 
+import org.aau.config.CanonicalizationOptions;
 import org.aau.config.DomainFilter;
+import org.aau.config.FetchOptions;
 import org.aau.config.WebCrawlerConfiguration;
 import org.aau.crawler.analyzer.PageAnalyzer;
+import org.aau.crawler.cache.CachedPage;
+import org.aau.crawler.cache.LinkStatus;
+import org.aau.crawler.cache.LinkStatusCache;
+import org.aau.crawler.cache.PageCache;
 import org.aau.crawler.client.WebCrawlerClient;
 import org.aau.crawler.error.CrawlingError;
 import org.aau.crawler.result.BrokenLink;
 import org.aau.crawler.result.Link;
+import org.aau.crawler.result.UnparsedLink;
 import org.aau.crawler.result.WorkingLink;
+import org.aau.http.CacheValidators;
+import org.aau.http.FetchResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -96,8 +109,7 @@ class WebCrawlerRunnableTest {
 
     @Test
     void testCrawlLinkWorking() throws Exception {
-        when(mockClient.isPageAvailable("http://example.com")).thenReturn(true);
-        when(mockClient.getPageContent("http://example.com")).thenReturn("<html></html>");
+        when(mockClient.fetch("http://example.com")).thenReturn(new FetchResult(200, Map.of(), "<html></html>"));
 
         WorkingLink testLink = new WorkingLink("http://example.com", 0, Set.of("Heading1"), Set.of("http://example.com/sub"));
         when(mockAnalyzer.analyze(any(), anyInt(), any())).thenReturn(testLink);
@@ -109,7 +121,7 @@ class WebCrawlerRunnableTest {
 
     @Test
     void testCrawlLinkBroken() {
-        when(mockClient.isPageAvailable("http://example.com")).thenReturn(false);
+        when(mockClient.fetch("http://example.com")).thenReturn(new FetchResult(404, Map.of(), null));
 
         runnable.crawlLink("http://example.com", 0);
 
@@ -117,6 +129,17 @@ class WebCrawlerRunnableTest {
                 .anyMatch(link -> link instanceof BrokenLink && link.getUrl().equals("http://example.com")));
     }
 
+    @Test
+    void crawlLinkShouldReportUnparsedLinkWithoutAnalyzingIt() {
+        when(mockClient.fetch("http://example.com/manual.pdf")).thenReturn(FetchResult.unparsed(200, Map.of(), "content type application/pdf"));
+
+        runnable.crawlLink("http://example.com/manual.pdf", 0);
+
+        assertTrue(sharedState.crawledLinks().stream()
+                .anyMatch(link -> link instanceof UnparsedLink unparsedLink && unparsedLink.getReason().equals("content type application/pdf")));
+        verify(mockAnalyzer, never()).analyze(anyString(), anyInt(), any());
+    }
+
     @Test
     void testReportSublinksAddsToQueue() throws InterruptedException {
         runnable.reportSublinks(Set.of("http://example.com/page1"), 0);
@@ -126,11 +149,42 @@ class WebCrawlerRunnableTest {
         assertEquals(1, task.depth());
     }
 
+    @Test
+    void reportSublinksShouldEnqueueDiscoveredUrlOnlyOnce() {
+        runnable.reportSublinks(Set.of("http://example.com/page1"), 0);
+        runnable.reportSublinks(Set.of("http://example.com/page1"), 1);
+
+        assertEquals(1, sharedState.urlQueue().size());
+        assertEquals(1, sharedState.getSuppressedDuplicates());
+    }
+
+    @Test
+    void reportSublinksShouldEnqueueCanonicalUrlVariantsOnlyOnce() throws InterruptedException {
+        WebCrawlerRunnable canonicalizingRunnable = new WebCrawlerRunnable(sharedState, config.withCanonicalizationOptions(CanonicalizationOptions.standard())) {
+            @Override
+            protected WebCrawlerClient createWebCrawlerClient() {
+                return mockClient;
+            }
+        };
+
+        canonicalizingRunnable.reportSublinks(Set.of("http://example.com/page1#top", "HTTP://EXAMPLE.COM:80/page1", "http://example.com/page1?utm_source=mail"), 0);
+
+        assertEquals(1, sharedState.urlQueue().size());
+        assertEquals("http://example.com/page1", sharedState.urlQueue().take().url());
+    }
+
+    @Test
+    void reportSublinksShouldKeepUrlVariantsWithoutCanonicalization() {
+        runnable.reportSublinks(Set.of("http://example.com/page1#top", "http://example.com/page1"), 0);
+
+        assertEquals(2, sharedState.urlQueue().size());
+    }
+
     @Test
     void testRunCompletesWhenQueueEmptyAndNoActiveThreads() throws InterruptedException {
-        sharedState.urlQueue().put(new CrawlTask("http://example.com", 0));
+        sharedState.addTask(new CrawlTask("http://example.com", 0));
 
-        when(mockClient.isPageAvailable("http://example.com")).thenReturn(false);
+        when(mockClient.fetch("http://example.com")).thenReturn(new FetchResult(404, Map.of(), null));
 
         Thread thread = new Thread(runnable);
         thread.start();
@@ -177,7 +231,7 @@ class WebCrawlerRunnableTest {
         runnable.crawlLink(url, depth);
 
         verify(runnable).shouldCrawl(url, depth);
-        verify(mockClient, never()).isPageAvailable(url);
+        verify(mockClient, never()).fetch(url);
     }
 
     @Test
@@ -185,8 +239,7 @@ class WebCrawlerRunnableTest {
         String url = "http://example.com";
         var exception = new RuntimeException("Test exception");
         doReturn(true).when(runnable).shouldCrawl(url, 0);
-        doReturn(true).when(mockClient).isPageAvailable(url);
-        doThrow(exception).when(mockClient).getPageContent(url);
+        doThrow(exception).when(mockClient).fetch(url);
 
         assertDoesNotThrow(() -> runnable.crawlLink(url, 0));
 
@@ -198,7 +251,7 @@ class WebCrawlerRunnableTest {
         assertEquals(BrokenLink.class, crawledLink.getClass());
         assertEquals(url, crawledLink.getUrl());
 
-        verify(mockClient).getPageContent(url);
+        verify(mockClient).fetch(url);
         verify(runnable).reportError(anyString(), eq(exception));
     }
 
@@ -219,36 +272,253 @@ class WebCrawlerRunnableTest {
     }
 
     @Test
-    void processCrawlTasksShouldContinueAsLongAsThereAreTasksOrActiveThreads() throws InterruptedException {
+    void processCrawlTasksShouldPollUntilCrawlIsComplete() throws InterruptedException {
         doReturn(null).when(sharedState).getNextTask();
-        doReturn(true).when(sharedState).hasNoFurtherTasks();
-        when(sharedState.hasActiveThreads()).thenReturn(true).thenReturn(false);
+        when(sharedState.isCrawlComplete()).thenReturn(false).thenReturn(false).thenReturn(true);
 
         runnable.processCrawlTasks();
 
         verify(sharedState, times(2)).getNextTask();
-        verify(sharedState, times(2)).hasActiveThreads();
-        verify(sharedState).hasNoFurtherTasks();
-        verify(sharedState).countDownCompletionLatch();
+        verify(sharedState, times(3)).isCrawlComplete();
         verifyNoMoreInteractions(sharedState);
     }
 
+    @Test
+    void processCrawlTasksShouldCompleteEachFetchedTask() throws InterruptedException {
+        CrawlTask task = new CrawlTask("http://example.com", 0);
+        sharedState.addTask(task);
+        when(mockClient.fetch("http://example.com")).thenReturn(new FetchResult(404, Map.of(), null));
+
+        runnable.processCrawlTasks();
+
+        verify(sharedState).completeTask(task);
+        assertTrue(sharedState.isCrawlComplete());
+        assertEquals(0, sharedState.pendingTasks().get());
+    }
+
+    @Test
+    void processCrawlTaskShouldHandOffAnalysisToParseStage() throws InterruptedException {
+        BoundedParseStage parseStage = new BoundedParseStage(1, 1);
+        WebCrawlerSharedState pipelinedState = new WebCrawlerSharedState(new LinkedBlockingQueue<>(), Collections.synchronizedSet(new HashSet<>()), new AtomicInteger(), new CountDownLatch(1),
+                Collections.synchronizedList(new ArrayList<>())).withParseStage(parseStage);
+        WebCrawlerRunnable pipelinedRunnable = new WebCrawlerRunnable(pipelinedState, config) {
+            @Override
+            protected WebCrawlerClient createWebCrawlerClient() {
+                return mockClient;
+            }
+
+            @Override
+            protected PageAnalyzer createPageAnalyzer() {
+                return mockAnalyzer;
+            }
+        };
+        List<String> analyzingThreads = Collections.synchronizedList(new ArrayList<>());
+        when(mockClient.fetch("http://example.com")).thenReturn(new FetchResult(200, Map.of(), "<html></html>"));
+        when(mockAnalyzer.analyze(any(), anyInt(), any())).thenAnswer(invocation -> {
+            analyzingThreads.add(Thread.currentThread().getName());
+            return new WorkingLink("http://example.com", 0, Set.of(), Set.of());
+        });
+        CrawlTask task = new CrawlTask("http://example.com", 0);
+        pipelinedState.addTask(task);
+
+        pipelinedRunnable.processCrawlTask(pipelinedState.getNextTask());
+
+        assertTrue(pipelinedState.completionLatch().await(5, TimeUnit.SECONDS));
+        parseStage.close();
+        assertEquals(1, pipelinedState.crawledLinks().size());
+        assertEquals(1, analyzingThreads.size());
+        assertTrue(analyzingThreads.getFirst().startsWith("parse-worker-"));
+        assertEquals(0, pipelinedState.pendingTasks().get());
+    }
+
+    @Test
+    void crawlLinkShouldReuseCachedAnalysisIfPageIsNotModified() throws InterruptedException {
+        InMemoryPageCache pageCache = new InMemoryPageCache();
+        CacheValidators validators = new CacheValidators("\"v1\"", null);
+        pageCache.put("http://example.com", new CachedPage(validators, "hash", Set.of("^ Cached"), Set.of("http://example.com/sub")));
+        WebCrawlerSharedState cachingState = createCachingState(pageCache);
+        WebCrawlerRunnable cachingRunnable = createRunnable(cachingState);
+        when(mockClient.fetch("http://example.com", validators)).thenReturn(new FetchResult(FetchResult.STATUS_NOT_MODIFIED, Map.of(), null));
+
+        cachingRunnable.crawlLink("http://example.com", 0);
+
+        WorkingLink link = (WorkingLink) cachingState.crawledLinks().iterator().next();
+        assertEquals(Set.of("^ Cached"), link.getHeadings());
+        assertEquals("http://example.com/sub", cachingState.getNextTask().url());
+        verify(mockAnalyzer, never()).analyze(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void crawlLinkShouldStoreAnalysisInPageCache() {
+        InMemoryPageCache pageCache = new InMemoryPageCache();
+        WebCrawlerRunnable cachingRunnable = createRunnable(createCachingState(pageCache));
+        when(mockClient.fetch("http://example.com")).thenReturn(new FetchResult(200, Map.of("ETag", List.of("\"v2\"")), "<html></html>"));
+        when(mockAnalyzer.analyze(any(), anyInt(), any())).thenReturn(new WorkingLink("http://example.com", 0, Set.of("^ Fresh"), Set.of()));
+
+        cachingRunnable.crawlLink("http://example.com", 0);
+
+        CachedPage cachedPage = pageCache.get("http://example.com").orElseThrow();
+        assertEquals("\"v2\"", cachedPage.validators().etag());
+        assertEquals(Set.of("^ Fresh"), cachedPage.headings());
+    }
+
+    @Test
+    void crawlLinkShouldAnalyzeChangedPageAgain() {
+        InMemoryPageCache pageCache = new InMemoryPageCache();
+        CacheValidators validators = new CacheValidators(null, "Mon, 05 Oct 2026 10:00:00 GMT");
+        pageCache.put("http://example.com", new CachedPage(validators, "outdated", Set.of("^ Old"), Set.of()));
+        WebCrawlerRunnable cachingRunnable = createRunnable(createCachingState(pageCache));
+        when(mockClient.fetch("http://example.com", validators)).thenReturn(new FetchResult(200, Map.of(), "<html></html>"));
+        when(mockAnalyzer.analyze(any(), anyInt(), any())).thenReturn(new WorkingLink("http://example.com", 0, Set.of("^ New"), Set.of()));
+
+        cachingRunnable.crawlLink("http://example.com", 0);
+
+        verify(mockAnalyzer).analyze("http://example.com", 0, "<html></html>");
+        assertEquals(Set.of("^ New"), pageCache.get("http://example.com").orElseThrow().headings());
+    }
+
+    @Test
+    void crawlLinkShouldReportKnownBrokenLinkWithoutFetchingIt() {
+        LinkStatusCache linkStatusCache = mock(LinkStatusCache.class);
+        when(linkStatusCache.get("http://example.com/missing")).thenReturn(Optional.of(new LinkStatus(404, null, Instant.EPOCH, Instant.MAX)));
+        WebCrawlerSharedState cachingState = createCachingState(PageCache.NONE, linkStatusCache);
+
+        createRunnable(cachingState).crawlLink("http://example.com/missing", 0);
+
+        assertEquals(BrokenLink.class, cachingState.crawledLinks().iterator().next().getClass());
+        verify(mockClient, never()).fetch(anyString());
+    }
+
+    @Test
+    void crawlLinkShouldRevalidateCachedPageOfKnownWorkingLink() {
+        InMemoryPageCache pageCache = new InMemoryPageCache();
+        CacheValidators validators = new CacheValidators("\"v1\"", null);
+        pageCache.put("http://example.com", new CachedPage(validators, "hash", Set.of("^ Cached"), Set.of()));
+        LinkStatusCache linkStatusCache = mock(LinkStatusCache.class);
+        when(linkStatusCache.get("http://example.com")).thenReturn(Optional.of(new LinkStatus(200, null, Instant.EPOCH, Instant.MAX)));
+        when(mockClient.fetch("http://example.com", validators)).thenReturn(new FetchResult(FetchResult.STATUS_NOT_MODIFIED, Map.of(), null));
+        WebCrawlerSharedState cachingState = createCachingState(pageCache, linkStatusCache);
+
+        createRunnable(cachingState).crawlLink("http://example.com", 0);
+
+        assertEquals(Set.of("^ Cached"), ((WorkingLink) cachingState.crawledLinks().iterator().next()).getHeadings());
+        verify(mockClient).fetch("http://example.com", validators);
+    }
+
+    @Test
+    void shouldCrawlShouldSkipExternalLinksByDefault() {
+        assertFalse(runnable.shouldCrawl("http://other.org/page", 1));
+    }
+
+    @Test
+    void crawlLinkShouldCheckExternalLinkWithoutParsingIt() {
+        doReturn(FetchOptions.defaults().withExternalLinkChecks(true)).when(config).fetchOptions();
+        LinkStatusCache linkStatusCache = mock(LinkStatusCache.class);
+        when(linkStatusCache.get(anyString())).thenReturn(Optional.empty());
+        FetchResult result = new FetchResult(200, Map.of(), null);
+        when(mockClient.checkLink("http://other.org/page")).thenReturn(result);
+        WebCrawlerSharedState cachingState = createCachingState(PageCache.NONE, linkStatusCache);
+
+        createRunnable(cachingState).crawlLink("http://other.org/page", 1);
+
+        assertEquals(UnparsedLink.class, cachingState.crawledLinks().iterator().next().getClass());
+        verify(linkStatusCache).record("http://other.org/page", result);
+        verify(mockClient, never()).fetch(anyString());
+        verify(mockAnalyzer, never()).analyze(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void crawlLinkShouldReportBrokenExternalLink() {
+        doReturn(FetchOptions.defaults().withExternalLinkChecks(true)).when(config).fetchOptions();
+        when(mockClient.checkLink("http://other.org/missing")).thenReturn(new FetchResult(404, Map.of(), null));
+        WebCrawlerSharedState cachingState = createCachingState(PageCache.NONE);
+
+        createRunnable(cachingState).crawlLink("http://other.org/missing", 1);
+
+        assertEquals(BrokenLink.class, cachingState.crawledLinks().iterator().next().getClass());
+    }
+
+    @Test
+    void crawlLinkShouldReuseStatusOfKnownExternalLinkWithoutCheckingIt() {
+        doReturn(FetchOptions.defaults().withExternalLinkChecks(true)).when(config).fetchOptions();
+        LinkStatusCache linkStatusCache = mock(LinkStatusCache.class);
+        when(linkStatusCache.get("http://other.org/page")).thenReturn(Optional.of(new LinkStatus(200, null, Instant.EPOCH, Instant.MAX)));
+        WebCrawlerSharedState cachingState = createCachingState(PageCache.NONE, linkStatusCache);
+
+        createRunnable(cachingState).crawlLink("http://other.org/page", 1);
+
+        assertEquals(UnparsedLink.class, cachingState.crawledLinks().iterator().next().getClass());
+        verifyNoMoreInteractions(mockClient);
+    }
+
+    @Test
+    void crawlLinkShouldRecordFetchedLinkStatus() {
+        LinkStatusCache linkStatusCache = mock(LinkStatusCache.class);
+        when(linkStatusCache.get(anyString())).thenReturn(Optional.empty());
+        FetchResult result = new FetchResult(503, Map.of(), null);
+        when(mockClient.fetch("http://example.com")).thenReturn(result);
+
+        createRunnable(createCachingState(PageCache.NONE, linkStatusCache)).crawlLink("http://example.com", 0);
+
+        verify(linkStatusCache).record("http://example.com", result);
+    }
+
+    private WebCrawlerSharedState createCachingState(PageCache pageCache) {
+        return createCachingState(pageCache, LinkStatusCache.NONE);
+    }
+
+    private WebCrawlerSharedState createCachingState(PageCache pageCache, LinkStatusCache linkStatusCache) {
+        return new WebCrawlerSharedState(new LinkedBlockingQueue<>(), Collections.synchronizedSet(new HashSet<>()), new AtomicInteger(), new CountDownLatch(1),
+                Collections.synchronizedList(new ArrayList<>())).withPageCache(pageCache).withLinkStatusCache(linkStatusCache);
+    }
+
+    private WebCrawlerRunnable createRunnable(WebCrawlerSharedState state) {
+        return new WebCrawlerRunnable(state, config) {
+            @Override
+            protected WebCrawlerClient createWebCrawlerClient() {
+                return mockClient;
+            }
+
+            @Override
+            protected PageAnalyzer createPageAnalyzer() {
+                return mockAnalyzer;
+            }
+        };
+    }
+
+    private static class InMemoryPageCache implements PageCache {
+
+        private final Map<String, CachedPage> pages = new HashMap<>();
+
+        @Override
+        public Optional<CachedPage> get(String url) {
+            return Optional.ofNullable(pages.get(url));
+        }
+
+        @Override
+        public void put(String url, CachedPage page) {
+            pages.put(url, page);
+        }
+
+        @Override
+        public void close() {}
+    }
+
     @ParameterizedTest
     @MethodSource("shouldCrawlArguments")
-    void testShouldCrawlLink(int depth, boolean isAllowedDomain, boolean isAlreadyCrawledUrl, boolean expectedValue) {
+    void testShouldCrawlLink(int depth, boolean isAllowedDomain, boolean expectedValue) {
         String url = "http://example.com";
         doReturn(isAllowedDomain).when(config).isAllowedDomain(url);
-        doReturn(isAlreadyCrawledUrl).when(runnable).isAlreadyCrawledUrl(url);
 
         assertEquals(expectedValue, runnable.shouldCrawl(url, depth));
     }
 
     static Stream<Arguments> shouldCrawlArguments() {
         return Stream.of(
-                Arguments.of(3, false, true, false),
-                Arguments.of(0, false, true, false),
-                Arguments.of(0, true, true, false),
-                Arguments.of(0, true, false, true)
+                Arguments.of(3, true, false),
+                Arguments.of(3, false, false),
+                Arguments.of(0, false, false),
+                Arguments.of(0, true, true)
         );
     }
 
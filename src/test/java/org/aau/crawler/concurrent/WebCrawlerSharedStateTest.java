@@ -2,6 +2,7 @@ package org.aau.crawler.concurrent;
 
 import org.aau.crawler.error.CrawlingError;
 import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.CrawlResultSink;
 import org.aau.crawler.result.Link;
 import org.aau.crawler.result.WorkingLink;
 import org.junit.jupiter.api.Test;
@@ -45,6 +46,23 @@ class WebCrawlerSharedStateTest {
         assertSame(errors, state.crawlingErrors());
     }
 
+    @Test
+    void withersShouldKeepOtherComponents() {
+        BlockingQueue<CrawlTask> queue = new LinkedBlockingQueue<>();
+        CrawlCounters counters = new CrawlCounters();
+        CrawlResultSink resultSink = link -> {};
+        WebCrawlerSharedState state = new WebCrawlerSharedState(queue, Collections.synchronizedSet(new HashSet<>()), new AtomicInteger(), new CountDownLatch(1),
+                new CopyOnWriteArrayList<>());
+
+        WebCrawlerSharedState configured = state.withCounters(counters).withResultSink(resultSink);
+
+        assertSame(queue, configured.urlQueue());
+        assertSame(state.visitedUrls(), configured.visitedUrls());
+        assertSame(counters.pendingTasks(), configured.pendingTasks());
+        assertSame(resultSink, configured.resultSink());
+        assertSame(state.checkpoint(), configured.checkpoint());
+    }
+
     @Test
     void testContainsCrawledUrlWhenPresent() {
         Set<Link> crawled = Collections.synchronizedSet(new HashSet<>());
@@ -92,6 +110,53 @@ class WebCrawlerSharedStateTest {
         assertFalse(state.containsCrawledUrl("http://anything.com"));
     }
 
+    @Test
+    void containsCrawledUrlShouldReflectAddedLinks() {
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+
+        assertFalse(state.containsCrawledUrl("http://example.com/added"));
+        state.addCrawledLink(new BrokenLink("http://example.com/added", 0));
+        assertTrue(state.containsCrawledUrl("http://example.com/added"));
+    }
+
+    @Test
+    void addTaskShouldMarkUrlAsVisited() throws InterruptedException {
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+
+        assertFalse(state.containsCrawledUrl("http://example.com/claimed"));
+        assertTrue(state.addTask(new CrawlTask("http://example.com/claimed", 0)));
+        assertTrue(state.containsCrawledUrl("http://example.com/claimed"));
+    }
+
+    @Test
+    void addTaskShouldSuppressAlreadyCrawledUrls() throws InterruptedException {
+        Set<Link> crawled = Collections.synchronizedSet(new HashSet<>());
+        crawled.add(new WorkingLink("http://example.com/page1", 0, Set.of(), Set.of()));
+
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                crawled,
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+
+        assertFalse(state.addTask(new CrawlTask("http://example.com/page1", 1)));
+        assertTrue(state.urlQueue().isEmpty());
+    }
+
     @Test
     void hasActiveThreadsShouldReturnTrueIfThereAreActiveThreads() {
         WebCrawlerSharedState state = new WebCrawlerSharedState(
@@ -169,7 +234,7 @@ class WebCrawlerSharedStateTest {
     }
 
     @Test
-    void getNextTaskShouldReturnNullIfQueueIsEmptyAfterTimeout() throws InterruptedException {
+    void getNextTaskShouldReturnNullIfCrawlIsComplete() throws InterruptedException {
         BlockingQueue<CrawlTask> queue = new LinkedBlockingQueue<>();
         WebCrawlerSharedState state = new WebCrawlerSharedState(
                 queue,
@@ -178,9 +243,50 @@ class WebCrawlerSharedStateTest {
                 new CountDownLatch(1),
                 Collections.synchronizedList(new CopyOnWriteArrayList<>())
         );
+        state.countDownCompletionLatch();
 
         CrawlTask actualTask = state.getNextTask();
         assertNull(actualTask);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void completingCrawlShouldWakeEveryWaitingWorker() throws InterruptedException {
+        BlockingQueue<CrawlTask> queue = new LinkedBlockingQueue<>();
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                queue,
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+        state.addTask(new CrawlTask("http://task.com", 0));
+        CrawlTask task = state.getNextTask();
+        int workers = 3;
+        AtomicInteger wokenWorkers = new AtomicInteger();
+        CountDownLatch finishedWorkers = new CountDownLatch(workers);
+        for (int i = 0; i < workers; i++) {
+            new Thread(() -> {
+                try {
+                    if (state.getNextTask() == null) {
+                        wokenWorkers.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finishedWorkers.countDown();
+                }
+            }).start();
+        }
+        while (state.waitingWorkers().get() < workers) {
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+
+        state.completeTask(task);
+
+        assertTrue(finishedWorkers.await(5, TimeUnit.SECONDS), "Waiting workers were not woken up");
+        assertEquals(workers, wokenWorkers.get());
+        assertTrue(queue.isEmpty());
     }
 
     @Test
@@ -216,6 +322,106 @@ class WebCrawlerSharedStateTest {
         assertEquals(task, queue.take());
     }
 
+    @Test
+    void addTaskShouldSuppressDuplicateUrls() throws InterruptedException {
+        BlockingQueue<CrawlTask> queue = new LinkedBlockingQueue<>();
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                queue,
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+
+        assertTrue(state.addTask(new CrawlTask("http://duplicate.com", 1)));
+        assertFalse(state.addTask(new CrawlTask("http://duplicate.com", 1)));
+        assertFalse(state.addTask(new CrawlTask("http://duplicate.com", 2)));
+
+        assertEquals(1, queue.size());
+        assertEquals(2, state.getSuppressedDuplicates());
+    }
+
+    @Test
+    void addTaskShouldEnqueueEachUrlOnceWithMultipleThreads() throws InterruptedException {
+        BlockingQueue<CrawlTask> queue = new LinkedBlockingQueue<>();
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                queue,
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+
+        int numThreads = 5;
+        int urlsPerThread = 100;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(numThreads);
+
+        for (int i = 0; i < numThreads; i++) {
+            new Thread(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < urlsPerThread; j++) {
+                        state.addTask(new CrawlTask("http://shared.com/link" + j, 1));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail("Thread interrupted during test");
+                } finally {
+                    endLatch.countDown();
+                }
+            }).start();
+        }
+
+        startLatch.countDown();
+        assertTrue(endLatch.await(10, TimeUnit.SECONDS), "Threads did not complete in time");
+
+        assertEquals(urlsPerThread, queue.size());
+        assertEquals((long) (numThreads - 1) * urlsPerThread, state.getSuppressedDuplicates());
+    }
+
+    @Test
+    void completeTaskShouldCountDownLatchOnceAllPendingTasksAreCompleted() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                latch,
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+        CrawlTask first = new CrawlTask("http://first.com", 0);
+        CrawlTask second = new CrawlTask("http://second.com", 1);
+        state.addTask(first);
+        state.addTask(second);
+
+        state.completeTask(state.getNextTask());
+        assertEquals(1, latch.getCount());
+        assertFalse(state.isCrawlComplete());
+
+        state.completeTask(state.getNextTask());
+        assertEquals(0, latch.getCount());
+        assertTrue(state.isCrawlComplete());
+    }
+
+    @Test
+    void suppressedDuplicateShouldNotCountAsPendingTask() throws InterruptedException {
+        WebCrawlerSharedState state = new WebCrawlerSharedState(
+                new LinkedBlockingQueue<>(),
+                Collections.synchronizedSet(new HashSet<>()),
+                new AtomicInteger(),
+                new CountDownLatch(1),
+                Collections.synchronizedList(new CopyOnWriteArrayList<>())
+        );
+        CrawlTask task = new CrawlTask("http://task.com", 0);
+        state.addTask(task);
+        state.addTask(task);
+
+        assertEquals(1, state.pendingTasks().get());
+        state.completeTask(state.getNextTask());
+        assertTrue(state.isCrawlComplete());
+    }
+
     @Test
     void hasNoFurtherTasksShouldReturnTrueIfQueueIsEmpty() {
         BlockingQueue<CrawlTask> queue = new LinkedBlockingQueue<>();
@@ -471,6 +677,7 @@ class WebCrawlerSharedStateTest {
         assertTrue(consumersEndLatch.await(15, TimeUnit.SECONDS), "Consumers did not process all tasks in time. Remaining: " + consumersEndLatch.getCount());
 
         assertEquals(0, queue.size(), "Queue should be empty after all tasks are consumed");
+        state.countDownCompletionLatch();
     }
 
     @Test
@@ -543,4 +750,75 @@ class WebCrawlerSharedStateTest {
         assertEquals(0, latch.getCount(), "Latch should have counted down to zero");
         assertTrue(latch.await(0, TimeUnit.MILLISECONDS), "Latch should be triggered");
     }
-}
\ No newline at end of file
+
+    @Test
+    void addCrawledLinkShouldPassLinkToResultSinkOnce() {
+        List<Link> sunkLinks = new CopyOnWriteArrayList<>();
+        Set<Link> crawled = Collections.synchronizedSet(new HashSet<>());
+        WebCrawlerSharedState state = new WebCrawlerSharedState(new LinkedBlockingQueue<>(), crawled, new AtomicInteger(), new CountDownLatch(1),
+                new CopyOnWriteArrayList<>()).withResultSink(sunkLinks::add);
+        WorkingLink link = new WorkingLink("http://example.com", 0, Set.of("Heading"), Set.of("http://example.com/sub"));
+
+        state.addCrawledLink(link);
+        state.addCrawledLink(new WorkingLink("http://example.com", 0, Set.of(), Set.of()));
+
+        assertEquals(List.of(link), sunkLinks);
+        assertEquals(Set.of("Heading"), ((WorkingLink) crawled.iterator().next()).getHeadings());
+        assertEquals(1, state.getCrawledLinkCount());
+    }
+
+    @Test
+    void addCrawledLinkShouldNotRetainLinksIfSinkPersistsResults() {
+        List<Link> sunkLinks = new CopyOnWriteArrayList<>();
+        CrawlResultSink persistingSink = new CrawlResultSink() {
+            @Override
+            public void accept(Link link) {
+                sunkLinks.add(link);
+            }
+
+            @Override
+            public boolean persistsResults() {
+                return true;
+            }
+        };
+        Set<Link> crawled = Collections.synchronizedSet(new HashSet<>());
+        WebCrawlerSharedState state = new WebCrawlerSharedState(new LinkedBlockingQueue<>(), crawled, new AtomicInteger(), new CountDownLatch(1),
+                new CopyOnWriteArrayList<>()).withResultSink(persistingSink);
+        WorkingLink link = new WorkingLink("http://example.com", 1, Set.of("Heading"), Set.of("http://example.com/sub"));
+
+        state.addCrawledLink(link);
+
+        assertSame(link, sunkLinks.getFirst());
+        assertTrue(crawled.isEmpty());
+        assertEquals(1, state.getCrawledLinkCount());
+        assertTrue(state.containsCrawledUrl("http://example.com"));
+    }
+
+    @Test
+    void restoreCrawledLinkShouldReplayLinkIntoPersistingSink() {
+        List<Link> sunkLinks = new CopyOnWriteArrayList<>();
+        CrawlResultSink persistingSink = new CrawlResultSink() {
+            @Override
+            public void accept(Link link) {
+                sunkLinks.add(link);
+            }
+
+            @Override
+            public boolean persistsResults() {
+                return true;
+            }
+        };
+        Set<Link> crawled = Collections.synchronizedSet(new HashSet<>());
+        WebCrawlerSharedState state = new WebCrawlerSharedState(new LinkedBlockingQueue<>(), crawled, new AtomicInteger(), new CountDownLatch(1),
+                new CopyOnWriteArrayList<>()).withResultSink(persistingSink);
+        WorkingLink link = new WorkingLink("http://example.com", 1, Set.of("Heading"), Set.of());
+
+        state.restoreCrawledLink(link);
+        state.restoreCrawledLink(link);
+
+        assertEquals(List.of(link), sunkLinks);
+        assertTrue(crawled.isEmpty());
+        assertEquals(1, state.getCrawledLinkCount());
+        assertTrue(state.containsCrawledUrl("http://example.com"));
+    }
+}
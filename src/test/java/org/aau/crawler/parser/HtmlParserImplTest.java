@@ -5,6 +5,7 @@ import org.aau.html.Document;
 import org.aau.html.DocumentAdapter;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -38,4 +39,26 @@ public class HtmlParserImplTest {
         assertTrue(links.contains("https://www.example.org"));
         assertEquals(2, links.size());
     }
+
+    @Test
+    void extractContent_shouldMatchSeparateExtraction() {
+        String html = """
+                <h1>Main <b>Title</b></h1>
+                <a href='/page1'>Link 1</a>
+                <h2><a href='/page2'>Linked heading</a></h2>
+                <a name='anchor'>No href</a>
+                <a href=''>Empty href</a>
+                <h6>Ignored</h6>
+                <A HREF='https://www.example.org'>Upper case</A>
+                <a href='/page1'>Duplicate</a>
+                """;
+        Document doc = new DocumentAdapter(html, "https://www.example.com/");
+
+        PageContent content = parser.extractContent(doc);
+
+        assertEquals(List.copyOf(parser.extractHeadings(doc)), List.copyOf(content.headings()));
+        assertEquals(List.copyOf(parser.extractLinks(doc)), List.copyOf(content.links()));
+        assertEquals(List.of("^ Main Title", "^^ Linked heading"), List.copyOf(content.headings()));
+        assertEquals(4, content.links().size());
+    }
 }
@@ -0,0 +1,92 @@
+package org.aau.crawler.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamingHtmlScannerTest {
+
+    private static final String BASE_URL = "https://www.example.com/dir/index.html";
+
+    @Test
+    void scan_shouldExtractHeadingsAndAbsoluteLinks() throws IOException {
+        String html = "<h1>Main <b>Title</b></h1><a href='/page1'>Link</a><h2><a href=\"rel?a=1&amp;b=2\">Linked &amp; heading</a></h2><h6>Ignored</h6>";
+
+        PageContent content = scan(html);
+
+        assertEquals(List.of("^ Main Title", "^^ Linked & heading"), List.copyOf(content.headings()));
+        assertEquals(List.of("https://www.example.com/page1", "https://www.example.com/dir/rel?a=1&b=2"), List.copyOf(content.links()));
+    }
+
+    @Test
+    void scan_shouldIgnoreLinksInCommentsScriptsAndRawText() throws IOException {
+        String html = """
+                <html><head><title><a href='/title'></title>
+                <script>var s = '<a href="/script">'; if (a</b) {}</script>
+                <style>a { color: red; }</style></head>
+                <body><!-- <a href='/comment'> --><textarea><a href='/textarea'></textarea>
+                <a href='/visible'>Visible</a></body></html>
+                """;
+
+        PageContent content = scan(html);
+
+        assertEquals(List.of("https://www.example.com/visible"), List.copyOf(content.links()));
+    }
+
+    @Test
+    void scan_shouldNormalizeHeadingWhitespace() throws IOException {
+        PageContent content = scan("<h3>  spaced\n\n text&nbsp;here </h3><h1>Line<br>break</h1><h4>unterminated");
+
+        assertEquals(List.of("^^^ spaced text here", "^ Line break", "^^^^ unterminated"), List.copyOf(content.headings()));
+    }
+
+    @Test
+    void scan_shouldHandleAttributeVariants() throws IOException {
+        String html = "<A HREF = \"  /trim  \">t</A><a href=#frag>f</a><a name=anchor>n</a><a href>empty</a><a href='/first' href='/second'>d</a>";
+
+        PageContent content = scan(html);
+
+        assertEquals(List.of(
+                "https://www.example.com/trim",
+                "https://www.example.com/dir/index.html#frag",
+                BASE_URL,
+                "https://www.example.com/first"
+        ), List.copyOf(content.links()));
+    }
+
+    @Test
+    void scan_shouldResolveLinksAgainstBaseTag() throws IOException {
+        PageContent content = scan("<head><base href='https://cdn.example.org/root/'></head><a href='page'>p</a>");
+
+        assertEquals(List.of("https://cdn.example.org/root/page"), List.copyOf(content.links()));
+    }
+
+    @Test
+    void scan_shouldConsumeInputInChunks() throws IOException {
+        StringBuilder html = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            html.append("<p><a href='/page").append(i).append("'>Page</a></p>");
+        }
+        Reader oneCharacterAtATime = new StringReader(html.toString()) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                return super.read(buffer, offset, Math.min(length, 1));
+            }
+        };
+
+        PageContent content = new StreamingHtmlScanner(BASE_URL).scan(oneCharacterAtATime);
+
+        assertEquals(5_000, content.links().size());
+        assertTrue(content.links().contains("https://www.example.com/page4999"));
+    }
+
+    private PageContent scan(String html) throws IOException {
+        return new StreamingHtmlScanner(BASE_URL).scan(new StringReader(html));
+    }
+}
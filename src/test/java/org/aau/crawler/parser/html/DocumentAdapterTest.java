@@ -4,6 +4,9 @@ import org.aau.html.DocumentAdapter;
 import org.aau.html.Elements;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -37,4 +40,15 @@ public class DocumentAdapterTest {
 
         assertEquals("MyTitle", doc.title());
     }
+
+    @Test
+    void traverse_shouldVisitElementsInDocumentOrder() {
+        String html = "<html><body><h1>Hello</h1><p>World <a href='/x'>link</a></p></body></html>";
+        DocumentAdapter doc = new DocumentAdapter(html);
+        List<String> tagNames = new ArrayList<>();
+
+        doc.traverse(element -> tagNames.add(element.tagName()));
+
+        assertEquals(List.of("#root", "html", "head", "body", "h1", "p", "a"), tagNames);
+    }
 }
@@ -7,6 +7,7 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class LinkUnitTest {
 
@@ -50,6 +51,13 @@ public class LinkUnitTest {
         assertNotEquals(workingLink, brokenLink);
     }
 
+    @Test
+    void unparsedLinkMarkdownShouldContainReason() {
+        Link unparsedLink = new UnparsedLink("https://www.test.com/file.pdf", 2, "content type application/pdf");
+        assertTrue(unparsedLink.toMarkdownString().contains("## https://www.test.com/file.pdf (not parsed)"));
+        assertTrue(unparsedLink.toMarkdownString().contains("Reason: content type application/pdf"));
+    }
+
     @Test
     void getUrlShouldReturnUrl() {
         String url = "https://www.test.com";
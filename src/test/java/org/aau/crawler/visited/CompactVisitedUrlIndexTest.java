@@ -0,0 +1,106 @@
+package org.aau.crawler.visited;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactVisitedUrlIndexTest {
+
+    @Test
+    void claimShouldReturnTrueOnlyForFirstClaim() {
+        VisitedUrlIndex index = new CompactVisitedUrlIndex(16);
+
+        assertTrue(index.claim("http://example.com"));
+        assertFalse(index.claim("http://example.com"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void containsShouldReflectClaimedUrls() {
+        VisitedUrlIndex index = new CompactVisitedUrlIndex(16);
+        index.claim("http://example.com/page1");
+
+        assertTrue(index.contains("http://example.com/page1"));
+        assertFalse(index.contains("http://example.com/page2"));
+    }
+
+    @Test
+    void nullUrlShouldNeverBeClaimed() {
+        VisitedUrlIndex index = new CompactVisitedUrlIndex(16);
+
+        assertFalse(index.claim(null));
+        assertFalse(index.contains(null));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void indexShouldGrowBeyondExpectedUrls() {
+        VisitedUrlIndex index = new CompactVisitedUrlIndex(16);
+        int urlCount = 100_000;
+
+        for (int i = 0; i < urlCount; i++) {
+            assertTrue(index.claim("http://example.com/page" + i));
+        }
+
+        assertEquals(urlCount, index.size());
+        for (int i = 0; i < urlCount; i++) {
+            assertTrue(index.contains("http://example.com/page" + i));
+            assertFalse(index.claim("http://example.com/page" + i));
+        }
+        for (int i = urlCount; i < 2 * urlCount; i++) {
+            assertFalse(index.contains("http://example.com/page" + i));
+        }
+    }
+
+    @Test
+    void fingerprintShouldDistinguishSimilarUrls() {
+        assertNotEquals(CompactVisitedUrlIndex.fingerprint("http://example.com/a"), CompactVisitedUrlIndex.fingerprint("http://example.com/b"));
+        assertNotEquals(CompactVisitedUrlIndex.fingerprint("http://example.com/ab"), CompactVisitedUrlIndex.fingerprint("http://example.com/ba"));
+        assertNotEquals(0L, CompactVisitedUrlIndex.fingerprint(""));
+    }
+
+    @Test
+    void constructorShouldRejectNonPositiveExpectedUrls() {
+        assertThrows(IllegalArgumentException.class, () -> new CompactVisitedUrlIndex(0));
+    }
+
+    @Test
+    void concurrentClaimsShouldOnlySucceedOncePerUrl() throws InterruptedException {
+        VisitedUrlIndex index = new CompactVisitedUrlIndex(16);
+        int threadCount = 8;
+        int urlCount = 5_000;
+        AtomicInteger successfulClaims = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int t = 0; t < threadCount; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < urlCount; i++) {
+                        if (index.claim("http://example.com/page" + i)) {
+                            successfulClaims.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        start.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS), "Threads did not complete in time");
+        assertEquals(urlCount, successfulClaims.get());
+        assertEquals(urlCount, index.size());
+    }
+}
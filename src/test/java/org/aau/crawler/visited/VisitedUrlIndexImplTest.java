@@ -0,0 +1,69 @@
+package org.aau.crawler.visited;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VisitedUrlIndexImplTest {
+
+    @Test
+    void claimShouldReturnTrueOnlyForFirstClaim() {
+        VisitedUrlIndex index = new VisitedUrlIndexImpl();
+
+        assertTrue(index.claim("http://example.com"));
+        assertFalse(index.claim("http://example.com"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void containsShouldReflectClaimedUrls() {
+        VisitedUrlIndex index = new VisitedUrlIndexImpl();
+        index.claim("http://example.com/page1");
+
+        assertTrue(index.contains("http://example.com/page1"));
+        assertFalse(index.contains("http://example.com/page2"));
+    }
+
+    @Test
+    void nullUrlShouldNeverBeClaimed() {
+        VisitedUrlIndex index = new VisitedUrlIndexImpl();
+
+        assertFalse(index.claim(null));
+        assertFalse(index.contains(null));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void claimShouldSucceedForExactlyOneThread() throws InterruptedException {
+        VisitedUrlIndex index = new VisitedUrlIndexImpl();
+        AtomicInteger successfulClaims = new AtomicInteger();
+        int numThreads = 20;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(numThreads);
+
+        for (int i = 0; i < numThreads; i++) {
+            new Thread(() -> {
+                try {
+                    startLatch.await();
+                    if (index.claim("http://example.com/shared")) {
+                        successfulClaims.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            }).start();
+        }
+
+        startLatch.countDown();
+        assertTrue(endLatch.await(5, TimeUnit.SECONDS), "Threads did not complete in time");
+        assertEquals(1, successfulClaims.get());
+    }
+}
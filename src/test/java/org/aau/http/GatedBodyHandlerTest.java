@@ -0,0 +1,157 @@
+package org.aau.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GatedBodyHandlerTest {
+
+    private final GatedBodyHandler handler = new GatedBodyHandler(16);
+
+    @Test
+    void shouldDownloadHtmlBody() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        var subscriber = handler.apply(responseInfo(200, Map.of("Content-Type", List.of("text/html; charset=UTF-8"))));
+
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(List.of(ByteBuffer.wrap("<h1>Hi</h1>".getBytes(StandardCharsets.UTF_8))));
+        subscriber.onComplete();
+
+        FetchResult result = subscriber.getBody().toCompletableFuture().join();
+        assertEquals("<h1>Hi</h1>", result.body());
+        assertFalse(result.isUnparsed());
+        assertFalse(subscription.cancelled);
+    }
+
+    @Test
+    void shouldDownloadBodyWithoutContentType() {
+        var subscriber = handler.apply(responseInfo(200, Map.of()));
+
+        subscriber.onSubscribe(new RecordingSubscription());
+        subscriber.onComplete();
+
+        assertEquals("", subscriber.getBody().toCompletableFuture().join().body());
+    }
+
+    @Test
+    void shouldSkipNonHtmlContentTypes() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        var subscriber = handler.apply(responseInfo(200, Map.of("Content-Type", List.of("application/pdf"))));
+
+        subscriber.onSubscribe(subscription);
+
+        FetchResult result = subscriber.getBody().toCompletableFuture().join();
+        assertTrue(result.isSuccessful());
+        assertTrue(result.isUnparsed());
+        assertEquals("content type application/pdf", result.unparsedReason());
+        assertTrue(subscription.cancelled);
+    }
+
+    @Test
+    void shouldSkipBodiesWithContentLengthAboveLimit() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        var subscriber = handler.apply(responseInfo(200, Map.of("Content-Type", List.of("text/html"), "Content-Length", List.of("17"))));
+
+        subscriber.onSubscribe(subscription);
+
+        FetchResult result = subscriber.getBody().toCompletableFuture().join();
+        assertTrue(result.isUnparsed());
+        assertNull(result.body());
+        assertTrue(subscription.cancelled);
+    }
+
+    @Test
+    void shouldStopDownloadingBodiesAboveLimit() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        var subscriber = handler.apply(responseInfo(200, Map.of("Content-Type", List.of("text/html"))));
+
+        subscriber.onSubscribe(subscription);
+        subscriber.onNext(List.of(ByteBuffer.wrap(new byte[10])));
+        subscriber.onNext(List.of(ByteBuffer.wrap(new byte[10])));
+
+        FetchResult result = subscriber.getBody().toCompletableFuture().join();
+        assertTrue(result.isUnparsed());
+        assertEquals("body exceeds 16 bytes", result.unparsedReason());
+        assertTrue(subscription.cancelled);
+    }
+
+    @Test
+    void shouldNotDownloadBodiesOfErrorResponses() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        var subscriber = handler.apply(responseInfo(404, Map.of("Content-Type", List.of("text/html"))));
+
+        subscriber.onSubscribe(subscription);
+
+        FetchResult result = subscriber.getBody().toCompletableFuture().join();
+        assertEquals(404, result.statusCode());
+        assertFalse(result.isUnparsed());
+        assertTrue(subscription.cancelled);
+    }
+
+    @Test
+    void shouldRecognizeHtmlContentTypes() {
+        assertTrue(GatedBodyHandler.isHtml("text/html"));
+        assertTrue(GatedBodyHandler.isHtml("TEXT/HTML; charset=ISO-8859-1"));
+        assertTrue(GatedBodyHandler.isHtml("application/xhtml+xml"));
+        assertFalse(GatedBodyHandler.isHtml("image/png"));
+        assertFalse(GatedBodyHandler.isHtml("text/plain"));
+    }
+
+    @Test
+    void shouldUseCharsetFromContentType() {
+        assertEquals(StandardCharsets.ISO_8859_1, GatedBodyHandler.charsetOf("text/html; charset=\"ISO-8859-1\""));
+        assertEquals(StandardCharsets.UTF_8, GatedBodyHandler.charsetOf("text/html"));
+        assertEquals(StandardCharsets.UTF_8, GatedBodyHandler.charsetOf("text/html; charset=unknown"));
+    }
+
+    @Test
+    void shouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new GatedBodyHandler(0));
+    }
+
+    private static HttpResponse.ResponseInfo responseInfo(int statusCode, Map<String, List<String>> headers) {
+        return new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return statusCode;
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return HttpHeaders.of(headers, (name, value) -> true);
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+    }
+
+    private static class RecordingSubscription implements Flow.Subscription {
+
+        boolean cancelled;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
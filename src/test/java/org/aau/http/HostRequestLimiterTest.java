@@ -0,0 +1,95 @@
+package org.aau.http;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HostRequestLimiterTest {
+
+    @Test
+    void shouldGrantRequestsUpToLimitPerHost() {
+        HostRequestLimiter limiter = new HostRequestLimiter(2);
+
+        assertTrue(limiter.acquireAsync("example.com").isDone());
+        assertTrue(limiter.acquireAsync("example.com").isDone());
+        assertFalse(limiter.acquireAsync("example.com").isDone());
+        assertTrue(limiter.acquireAsync("other.com").isDone());
+        assertEquals(2, limiter.requestsInFlight("example.com"));
+        assertEquals(1, limiter.requestsInFlight("other.com"));
+    }
+
+    @Test
+    void releaseShouldHandRequestSlotToWaitersInOrder() {
+        HostRequestLimiter limiter = new HostRequestLimiter(1);
+        limiter.acquireAsync("example.com");
+        CompletableFuture<Void> first = limiter.acquireAsync("example.com");
+        CompletableFuture<Void> second = limiter.acquireAsync("example.com");
+
+        limiter.release("example.com");
+
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(1, limiter.requestsInFlight("example.com"));
+
+        limiter.release("example.com");
+        limiter.release("example.com");
+
+        assertTrue(second.isDone());
+        assertEquals(0, limiter.requestsInFlight("example.com"));
+    }
+
+    @Test
+    void releaseShouldSkipCancelledWaiters() {
+        HostRequestLimiter limiter = new HostRequestLimiter(1);
+        limiter.acquireAsync("example.com");
+        CompletableFuture<Void> cancelled = limiter.acquireAsync("example.com");
+        CompletableFuture<Void> waiting = limiter.acquireAsync("example.com");
+        cancelled.cancel(false);
+
+        limiter.release("example.com");
+
+        assertTrue(waiting.isDone());
+        assertFalse(waiting.isCancelled());
+        assertEquals(1, limiter.requestsInFlight("example.com"));
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void interruptedAcquireShouldNotLeakRequestSlot() throws InterruptedException {
+        HostRequestLimiter limiter = new HostRequestLimiter(1);
+        limiter.acquire("example.com");
+        CountDownLatch waiting = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            waiting.countDown();
+            try {
+                limiter.acquire("example.com");
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        waiter.start();
+        waiting.await();
+        waiter.interrupt();
+        waiter.join();
+
+        limiter.release("example.com");
+
+        assertTrue(interrupted.get());
+        assertEquals(0, limiter.requestsInFlight("example.com"));
+    }
+
+    @Test
+    void shouldRejectInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new HostRequestLimiter(0));
+    }
+}
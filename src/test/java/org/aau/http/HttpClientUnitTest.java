@@ -1,16 +1,29 @@
 package org.aau.http;
 
+import org.aau.config.HttpClientOptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,4 +54,128 @@ public class HttpClientUnitTest {
         verify(mockHttpClient).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
     }
 
+    @Test
+    void fetchShouldReturnUnavailableResultOnException() throws IOException, InterruptedException {
+
+        HttpClientImpl client = new HttpClientImpl() {
+            @Override
+            protected HttpClient createHttpClient() {
+                return mockHttpClient;
+            }
+        };
+
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IOException("Simulated network error"));
+        FetchResult result = client.fetch("http://example.com");
+        assertFalse(result.isSuccessful());
+        assertEquals(FetchResult.STATUS_UNAVAILABLE, result.statusCode());
+    }
+
+    @Test
+    void fetchAsyncShouldPropagateFailureCause() {
+
+        HttpClientImpl client = new HttpClientImpl() {
+            @Override
+            protected HttpClient createHttpClient() {
+                return mockHttpClient;
+            }
+        };
+
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Simulated network error")));
+        CompletionException failure = assertThrows(CompletionException.class, () -> client.fetchAsync("http://example.com").join());
+        assertInstanceOf(IOException.class, failure.getCause());
+        assertEquals("Simulated network error", failure.getCause().getMessage());
+        verify(mockHttpClient).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void fetchShouldNotExceedMaximumRequestsPerHost() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HttpClientImpl client = new HttpClientImpl(HttpClientOptions.defaults().withMaxRequestsPerHost(2)) {
+            @Override
+            protected HttpClient createHttpClient() {
+                return mockHttpClient;
+            }
+        };
+        when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(20);
+            inFlight.decrementAndGet();
+            throw new IOException("Simulated network error");
+        });
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            threads.add(Thread.ofPlatform().start(() -> client.fetch("http://example.com/page")));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(maxInFlight.get() <= 2);
+        verify(mockHttpClient, times(6)).send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void fetchAsyncShouldReleaseRequestSlotOnlyOnceTheRequestCompletes() {
+        HttpClientImpl client = new HttpClientImpl(HttpClientOptions.defaults().withMaxRequestsPerHost(1)) {
+            @Override
+            protected HttpClient createHttpClient() {
+                return mockHttpClient;
+            }
+        };
+        CompletableFuture<HttpResponse<Object>> pendingResponse = new CompletableFuture<>();
+        when(mockHttpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Simulated network error")))
+                .thenReturn(pendingResponse)
+                .thenReturn(CompletableFuture.failedFuture(new IOException("Simulated network error")));
+
+        CompletableFuture<FetchResult> failed = client.fetchAsync("http://example.com/a");
+        CompletableFuture<FetchResult> pending = client.fetchAsync("http://example.com/b");
+        CompletableFuture<FetchResult> waiting = client.fetchAsync("http://example.com/c");
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertFalse(pending.isDone());
+        assertFalse(waiting.isDone());
+        verify(mockHttpClient, times(2)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+
+        pendingResponse.completeExceptionally(new IOException("Simulated network error"));
+
+        assertTrue(waiting.isCompletedExceptionally());
+        verify(mockHttpClient, times(3)).sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class));
+    }
+
+    @Test
+    void fetchShouldSendConditionalRequestHeaders() throws Exception {
+        HttpClientImpl client = new HttpClientImpl() {
+            @Override
+            protected HttpClient createHttpClient() {
+                return mockHttpClient;
+            }
+        };
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        when(mockHttpClient.send(request.capture(), any(HttpResponse.BodyHandler.class)))
+                .thenThrow(new IOException("Simulated network error"));
+
+        client.fetch("http://example.com", new CacheValidators("\"v1\"", "Mon, 05 Oct 2026 10:00:00 GMT"));
+
+        assertEquals("\"v1\"", request.getValue().headers().firstValue("If-None-Match").orElseThrow());
+        assertEquals("Mon, 05 Oct 2026 10:00:00 GMT", request.getValue().headers().firstValue("If-Modified-Since").orElseThrow());
+    }
+
+    @Test
+    void fetchAsyncShouldFailForInvalidUrl() {
+        HttpClientImpl client = new HttpClientImpl() {
+            @Override
+            protected HttpClient createHttpClient() {
+                return mockHttpClient;
+            }
+        };
+
+        CompletionException failure = assertThrows(CompletionException.class, () -> client.fetchAsync("not a url").join());
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+    }
+
 }
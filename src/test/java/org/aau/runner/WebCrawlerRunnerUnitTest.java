@@ -1,11 +1,14 @@
 package org.aau.runner;
 
 import org.aau.config.DomainFilter;
+import org.aau.config.ReportMode;
+import org.aau.config.ReportOptions;
 import org.aau.config.WebCrawlerConfiguration;
 import org.aau.crawler.WebCrawler;
 import org.aau.crawler.result.BrokenLink;
 import org.aau.crawler.result.Link;
 import org.aau.crawler.result.WorkingLink;
+import org.aau.writer.IncrementalMarkdownWriter;
 import org.aau.writer.MarkdownWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +30,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -93,14 +97,14 @@ public class WebCrawlerRunnerUnitTest {
         var webCrawlerRunner = createWebCrawlerRunner(true);
         webCrawlerRunner.run();
         verify(crawlerMock).start();
-        verify(writerMock).writeResultsToFile(eq(links), anyList(), any(OffsetDateTime.class));
+        verify(writerMock).writeSortedResultsToFile(eq(links), anyList(), any(OffsetDateTime.class));
         verify(crawlerMock).getCrawledLinks();
     }
 
     @Test
     void runShouldThrowRuntimeExceptionIfWritingFails() throws IOException {
         var ioException = new IOException("Test Exception");
-        when(writerMock.writeResultsToFile(anySet(), anyList(), any(OffsetDateTime.class))).thenThrow(ioException);
+        when(writerMock.writeSortedResultsToFile(anySet(), anyList(), any(OffsetDateTime.class))).thenThrow(ioException);
 
         var webCrawlerRunner = createWebCrawlerRunner(true);
 
@@ -108,7 +112,30 @@ public class WebCrawlerRunnerUnitTest {
         assertEquals(ioException, re.getCause());
     }
 
+    @Test
+    void runShouldWriteUnsortedReportIfRequested() throws IOException {
+        var webCrawlerRunner = createWebCrawlerRunner(true, new ReportOptions(ReportMode.UNSORTED, 100));
+        webCrawlerRunner.run();
+        verify(writerMock).writeResultsToFile(eq(links), anyList(), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void runShouldAppendResultsDuringCrawlInIncrementalMode() {
+        var webCrawlerRunner = createWebCrawlerRunner(true, new ReportOptions(ReportMode.INCREMENTAL, 100));
+
+        Path filePath = webCrawlerRunner.run();
+
+        verify(crawlerMock).setResultSink(any(IncrementalMarkdownWriter.class));
+        verify(crawlerMock).start();
+        verify(crawlerMock, never()).getCrawledLinks();
+        assertTrue(Files.exists(filePath));
+    }
+
     private WebCrawlerRunner createWebCrawlerRunner(boolean mockWriter) {
+        return createWebCrawlerRunner(mockWriter, ReportOptions.defaults());
+    }
+
+    private WebCrawlerRunner createWebCrawlerRunner(boolean mockWriter, ReportOptions reportOptions) {
         var domainFilter = new DomainFilter(Set.of(startUrl));
         var configuration = new WebCrawlerConfiguration(
                 startUrl,
@@ -116,7 +143,7 @@ public class WebCrawlerRunnerUnitTest {
                 1,
                 domainFilter,
                 OUTPUT_DIR
-        );
+        ).withReportOptions(reportOptions);
         return new WebCrawlerRunner(configuration) {
             @Override
             protected WebCrawler createCrawler(WebCrawlerConfiguration configuration) {
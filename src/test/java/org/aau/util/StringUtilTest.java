@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -31,6 +32,11 @@ public class StringUtilTest {
         assertFalse(StringUtil.isEmpty("s"));
     }
 
+    @Test
+    void normalizeWhitespaceShouldCollapseWhitespaceAndDropInvisibleCharacters() {
+        assertEquals(" Hello World ", StringUtil.normalizeWhitespace("\n Hello\u00A0\t World\u200B\r\n"));
+    }
+
     @Test
     void constructorOfStringUtilShouldThrowUnsupportedOperationException() throws NoSuchMethodException {
         Constructor<StringUtil> constructor = StringUtil.class.getDeclaredConstructor();
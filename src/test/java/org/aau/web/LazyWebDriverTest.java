@@ -0,0 +1,56 @@
+package org.aau.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LazyWebDriverTest {
+
+    @Test
+    void webDriverShouldOnlyBeCreatedOnFirstPageLoad() {
+        WebDriver delegate = mock(WebDriver.class);
+        when(delegate.getPageContent("http://example.com")).thenReturn("<html></html>");
+        AtomicInteger creations = new AtomicInteger();
+        LazyWebDriver webDriver = new LazyWebDriver(() -> {
+            creations.incrementAndGet();
+            return delegate;
+        });
+
+        assertFalse(webDriver.isStarted());
+        assertEquals("<html></html>", webDriver.getPageContent("http://example.com"));
+        assertEquals("<html></html>", webDriver.getPageContent("http://example.com"));
+        assertTrue(webDriver.isStarted());
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void closeShouldNotCreateWebDriver() {
+        AtomicInteger creations = new AtomicInteger();
+        LazyWebDriver webDriver = new LazyWebDriver(() -> {
+            creations.incrementAndGet();
+            return mock(WebDriver.class);
+        });
+
+        webDriver.close();
+
+        assertEquals(0, creations.get());
+    }
+
+    @Test
+    void closeShouldCloseCreatedWebDriver() {
+        WebDriver delegate = mock(WebDriver.class);
+        LazyWebDriver webDriver = new LazyWebDriver(() -> delegate);
+        webDriver.getPageContent("http://example.com");
+
+        webDriver.close();
+
+        verify(delegate).close();
+    }
+}
@@ -0,0 +1,164 @@
+package org.aau.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WebDriverPoolTest {
+
+    private static final String URL = "http://example.com";
+
+    private final List<WebDriver> createdWebDrivers = new ArrayList<>();
+
+    private WebDriver createHealthyWebDriver() {
+        WebDriver webDriver = mock(WebDriver.class);
+        when(webDriver.isHealthy()).thenReturn(true);
+        when(webDriver.getPageContent(anyString())).thenReturn("<html></html>");
+        createdWebDrivers.add(webDriver);
+        return webDriver;
+    }
+
+    @Test
+    void sessionsShouldBeCreatedLazilyAndReused() {
+        WebDriverPool pool = new WebDriverPool(this::createHealthyWebDriver, 2, 100);
+
+        assertEquals(0, pool.openSessionCount());
+        pool.getPageContent(URL);
+        pool.getPageContent(URL);
+        pool.getPageContent(URL);
+
+        assertEquals(1, createdWebDrivers.size());
+        assertEquals(1, pool.openSessionCount());
+        assertEquals(1, pool.idleSessionCount());
+    }
+
+    @Test
+    void sessionShouldBeRecycledAfterMaximumPages() {
+        WebDriverPool pool = new WebDriverPool(this::createHealthyWebDriver, 1, 2);
+
+        pool.getPageContent(URL);
+        pool.getPageContent(URL);
+        pool.getPageContent(URL);
+
+        assertEquals(2, createdWebDrivers.size());
+        verify(createdWebDrivers.getFirst()).close();
+        verify(createdWebDrivers.get(1), never()).close();
+    }
+
+    @Test
+    void unhealthySessionShouldBeReplaced() {
+        WebDriverPool pool = new WebDriverPool(this::createHealthyWebDriver, 1, 100);
+        pool.getPageContent(URL);
+        when(createdWebDrivers.getFirst().isHealthy()).thenReturn(false);
+
+        pool.getPageContent(URL);
+
+        assertEquals(2, createdWebDrivers.size());
+        verify(createdWebDrivers.getFirst()).close();
+        assertEquals(1, pool.openSessionCount());
+    }
+
+    @Test
+    void sessionShouldBeDiscardedWhenPageLoadLeavesItUnhealthy() {
+        WebDriverPool pool = new WebDriverPool(() -> {
+            WebDriver webDriver = mock(WebDriver.class);
+            when(webDriver.getPageContent(URL)).thenThrow(new RuntimeException("Session crashed"));
+            when(webDriver.isHealthy()).thenReturn(false);
+            createdWebDrivers.add(webDriver);
+            return webDriver;
+        }, 1, 100);
+
+        assertThrows(RuntimeException.class, () -> pool.getPageContent(URL));
+
+        verify(createdWebDrivers.getFirst()).close();
+        assertEquals(0, pool.openSessionCount());
+    }
+
+    @Test
+    void poolShouldNeverOpenMoreSessionsThanItsSize() throws Exception {
+        AtomicInteger concurrentPageLoads = new AtomicInteger();
+        AtomicInteger maxConcurrentPageLoads = new AtomicInteger();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        WebDriverPool pool = new WebDriverPool(() -> new WebDriver() {
+            @Override
+            public String getPageContent(String url) {
+                maxConcurrentPageLoads.accumulateAndGet(concurrentPageLoads.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                concurrentPageLoads.decrementAndGet();
+                return "<html></html>";
+            }
+
+            @Override
+            public void close() {}
+        }, 2, 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(executor.submit(() -> {
+                    startSignal.await();
+                    return pool.getPageContent(URL);
+                }));
+            }
+            startSignal.countDown();
+            for (Future<String> result : results) {
+                assertEquals("<html></html>", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxConcurrentPageLoads.get() <= 2);
+        assertTrue(pool.openSessionCount() <= 2);
+    }
+
+    @Test
+    void closeShouldCloseIdleSessionsAndRejectFurtherPageLoads() {
+        WebDriverPool pool = new WebDriverPool(this::createHealthyWebDriver, 2, 100);
+        pool.getPageContent(URL);
+
+        pool.close();
+
+        verify(createdWebDrivers.getFirst()).close();
+        assertEquals(0, pool.openSessionCount());
+        assertThrows(IllegalStateException.class, () -> pool.getPageContent(URL));
+    }
+
+    @Test
+    void sharedWebDriverShouldNotCloseUnderlyingPool() {
+        WebDriver pool = mock(WebDriver.class);
+        SharedWebDriver sharedWebDriver = new SharedWebDriver(pool);
+
+        sharedWebDriver.getPageContent(URL);
+        sharedWebDriver.close();
+
+        verify(pool).getPageContent(URL);
+        verify(pool, never()).close();
+    }
+
+    @Test
+    void poolShouldRejectInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new WebDriverPool(this::createHealthyWebDriver, 0, 100));
+    }
+}
@@ -0,0 +1,68 @@
+package org.aau.writer;
+
+import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.Link;
+import org.aau.crawler.result.WorkingLink;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExternalLinkSorterTest {
+
+    private static List<Link> createShuffledLinks(int count) {
+        List<Link> links = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String url = "https://example.com/page-%04d".formatted(i);
+            links.add(i % 3 == 0 ? new BrokenLink(url, i % 5) : new WorkingLink(url, i % 5, Set.of("Heading " + i), Set.of()));
+        }
+        Collections.shuffle(links);
+        return links;
+    }
+
+    private static List<String> expectedMarkdown(List<Link> links) {
+        return new TreeSet<>(links).stream().map(Link::toMarkdownString).toList();
+    }
+
+    @Test
+    void sortShouldSortInMemoryIfAllEntriesFit() throws IOException {
+        List<Link> links = createShuffledLinks(50);
+        List<String> sorted = new ArrayList<>();
+
+        new ExternalLinkSorter(100).sort(links, sorted::add);
+
+        assertEquals(expectedMarkdown(links), sorted);
+    }
+
+    @Test
+    void sortShouldMergeSpilledRuns() throws IOException {
+        List<Link> links = createShuffledLinks(95);
+        List<String> sorted = new ArrayList<>();
+
+        new ExternalLinkSorter(10).sort(links, sorted::add);
+
+        assertEquals(expectedMarkdown(links), sorted);
+    }
+
+    @Test
+    void sortShouldMergeInSeveralPassesIfThereAreTooManyRuns() throws IOException {
+        List<Link> links = createShuffledLinks(ExternalLinkSorter.MAX_MERGE_FAN_IN * 3 + 7);
+        List<String> sorted = new ArrayList<>();
+
+        new ExternalLinkSorter(1).sort(links, sorted::add);
+
+        assertEquals(expectedMarkdown(links), sorted);
+    }
+
+    @Test
+    void sorterShouldRejectInvalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalLinkSorter(0));
+    }
+}
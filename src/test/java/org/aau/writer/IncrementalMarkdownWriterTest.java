@@ -0,0 +1,81 @@
+package org.aau.writer;
+
+import org.aau.crawler.error.CrawlingError;
+import org.aau.crawler.result.BrokenLink;
+import org.aau.crawler.result.Link;
+import org.aau.crawler.result.WorkingLink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalMarkdownWriterTest {
+
+    private static final String TEST_FILE_PATH = "build/test-incremental";
+
+    @Test
+    void acceptShouldAppendLinkToReportImmediately() throws IOException {
+        Link link = new BrokenLink("https://www.broken.com", 2);
+        try (IncrementalMarkdownWriter writer = new IncrementalMarkdownWriter(TEST_FILE_PATH, OffsetDateTime.now())) {
+            writer.accept(link);
+
+            String content = Files.readString(writer.getPath());
+            assertTrue(content.startsWith("# Crawl Results"));
+            assertTrue(content.contains("## https://www.broken.com (broken)"));
+        }
+    }
+
+    @Test
+    void finishShouldProduceSameReportAsUnsortedMarkdownWriter() throws IOException {
+        OffsetDateTime timestamp = OffsetDateTime.now();
+        Set<String> headings = new LinkedHashSet<>(List.of("Heading1", "Heading2"));
+        Set<Link> links = new LinkedHashSet<>(List.of(
+                new WorkingLink("https://www.working.com", 1, headings, Set.of("Link3")),
+                new BrokenLink("https://www.broken.com", 5)));
+        List<CrawlingError> errors = List.of(new CrawlingError("Unexpected Error", new RuntimeException("Something went wrong")));
+
+        Path expectedReport = new MarkdownWriter(TEST_FILE_PATH + "/expected").writeResultsToFile(links, errors, timestamp);
+        Path incrementalReport;
+        try (IncrementalMarkdownWriter writer = new IncrementalMarkdownWriter(TEST_FILE_PATH, timestamp)) {
+            links.forEach(writer::accept);
+            incrementalReport = writer.finish(errors);
+        }
+
+        assertEquals(Files.readString(expectedReport), Files.readString(incrementalReport));
+    }
+
+    @Test
+    void writerShouldPersistResults() throws IOException {
+        try (IncrementalMarkdownWriter writer = new IncrementalMarkdownWriter(TEST_FILE_PATH, OffsetDateTime.now())) {
+            assertTrue(writer.persistsResults());
+        }
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        Path path = Paths.get(TEST_FILE_PATH);
+        if (Files.exists(path)) {
+            try (var paths = Files.walk(path)) {
+                paths.sorted(Comparator.reverseOrder())
+                        .forEach(p -> {
+                            try {
+                                Files.delete(p);
+                            } catch (IOException e) {
+                                throw new RuntimeException("Error when deleting file: path = %s".formatted(p), e);
+                            }
+                        });
+            }
+        }
+    }
+}
@@ -74,6 +74,30 @@ public class MarkdownWriterIntegrationTest {
         assertEquals(expectedContent, builder.toString());
     }
 
+    @Test
+    void writeSortedResultsToFileShouldSortLinksAcrossSpilledRuns() throws IOException {
+        MarkdownWriter writer = new MarkdownWriter(TEST_FILE_PATH, 2);
+        Set<Link> links = new LinkedHashSet<>(List.of(
+                new BrokenLink("https://www.d.com", 1),
+                new BrokenLink("https://www.b.com", 1),
+                new BrokenLink("https://www.e.com", 1),
+                new BrokenLink("https://www.a.com", 1),
+                new BrokenLink("https://www.c.com", 1)));
+        OffsetDateTime timestamp = OffsetDateTime.now();
+
+        Path filePath = writer.writeSortedResultsToFile(links, List.of(), timestamp);
+
+        List<String> headings = Files.readAllLines(filePath).stream()
+                .filter(line -> line.startsWith("## "))
+                .toList();
+        assertEquals(List.of(
+                "## https://www.a.com (broken)",
+                "## https://www.b.com (broken)",
+                "## https://www.c.com (broken)",
+                "## https://www.d.com (broken)",
+                "## https://www.e.com (broken)"), headings);
+    }
+
     @AfterEach
     void teardown() throws IOException {
         Path path = Paths.get(TEST_FILE_PATH);